@@ -0,0 +1,30 @@
+package simulador.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Punto de entrada de benchmarks.jar: acepta las mismas opciones que JMH, pero si
+// no se indica formato de resultados los escribe en JSON (jmh-result.json) para
+// poder compararlos entre corridas.
+public class EjecutarBenchmarks {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder opciones = new OptionsBuilder().parent(cmd);
+
+        if (!cmd.getResultFormat().hasValue()) {
+            opciones.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            opciones.result("jmh-result.json");
+        }
+        if (cmd.getIncludes().isEmpty()) {
+            opciones.include("simulador\\.bench\\..*");
+        }
+
+        new Runner(opciones.build()).run();
+    }
+}
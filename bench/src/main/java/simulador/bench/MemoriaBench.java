@@ -0,0 +1,55 @@
+package simulador.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.AdministradorMemoria;
+import simulador.EstrategiaAsignacion;
+import simulador.Proceso;
+
+// Asignación y liberación con la memoria ya poblada por 'residentes' procesos.
+// Cada operación libera un residente al azar y vuelve a asignarle memoria, así
+// la población (y la fragmentación) se mantiene estable entre iteraciones.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoriaBench {
+
+    @Param({"65536", "1048576"})
+    public int ramKB;
+
+    @Param({"1000", "10000"})
+    public int residentes;
+
+    @Param({"MEJOR_AJUSTE", "PRIMER_AJUSTE", "SIGUIENTE_AJUSTE", "PEOR_AJUSTE", "BUDDY"})
+    public EstrategiaAsignacion.Tipo estrategia;
+
+    private AdministradorMemoria mem;
+    private Proceso[] procesos;
+    private SplittableRandom rnd;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        rnd = new SplittableRandom(42);
+        mem = new AdministradorMemoria(ramKB, estrategia);
+        // tamaños que llenan ~75% de la RAM en promedio
+        int tamMax = Math.max(2, (int) (1.5 * ramKB / residentes));
+        procesos = new Proceso[residentes];
+        for (int i = 0; i < residentes; i++) {
+            procesos[i] = new Proceso(i, 1, 0, 1, 1 + rnd.nextInt(tamMax - 1));
+            mem.asignar(procesos[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean liberarYAsignar() {
+        Proceso p = procesos[rnd.nextInt(residentes)];
+        mem.liberar(p);
+        return mem.asignar(p);
+    }
+}
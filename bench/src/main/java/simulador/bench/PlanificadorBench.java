@@ -0,0 +1,85 @@
+package simulador.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.PlanificadorMultiprocesador;
+import simulador.Procesador;
+import simulador.Proceso;
+import simulador.TiempoGlobal;
+import simulador.UbicadorProcesos;
+
+// Admisión y robo de trabajo del planificador, sin arrancar los hilos: el hilo del
+// benchmark hace de reloj y de todas las CPUs.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanificadorBench {
+
+    // cada invocación de agregarProceso admite un lote para no acumular entrantes sin fin
+    private static final int LOTE = 10_000;
+
+    @Param({"4", "16", "64"})
+    public int cpus;
+
+    @Param({"1000", "100000"})
+    public int procesos;
+
+    @Param({"MENOR_CARGA", "DOS_OPCIONES"})
+    public UbicadorProcesos.Politica politica;
+
+    private PlanificadorMultiprocesador plan;
+    private List<Procesador> lista;
+    private Proceso[] lote;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        TiempoGlobal.reset();
+        plan = new PlanificadorMultiprocesador(cpus, 4, 1 << 20);
+        plan.setPoliticaUbicacion(politica);
+        lista = plan.getCpus();
+
+        // población inicial, toda en la CPU 0 para que haya qué robar
+        for (int i = 0; i < procesos; i++) {
+            lista.get(0).agregarProceso(new Proceso(i, i % 8, 0, Integer.MAX_VALUE, 0));
+        }
+        for (Procesador cpu : lista) {
+            cpu.rr.ejecutarUnTick(); // drena entrantes
+        }
+
+        lote = new Proceso[LOTE];
+        for (int i = 0; i < LOTE; i++) {
+            lote[i] = new Proceso(procesos + i, i % 8, 0, Integer.MAX_VALUE, 0);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(LOTE)
+    @Measurement(iterations = 20, batchSize = 1)
+    @Warmup(iterations = 5, batchSize = 1)
+    public void agregarProceso() {
+        for (Proceso p : lote) {
+            plan.agregarProceso(p);
+        }
+    }
+
+    // Ráfaga concentrada en la CPU 0: cada una de las demás CPUs (ociosas) hace un
+    // intento de robo, como en el primer tick tras la ráfaga. El estado se rearma en
+    // cada iteración.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 20, batchSize = 1)
+    @Warmup(iterations = 5, batchSize = 1)
+    public int intentarRobar() {
+        int movidos = 0;
+        for (int i = 1; i < cpus; i++) {
+            movidos += plan.intentarRobar(lista.get(i));
+        }
+        return movidos;
+    }
+}
@@ -0,0 +1,48 @@
+package simulador.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.Proceso;
+import simulador.RoundRobin;
+import simulador.TiempoGlobal;
+
+// Camino caliente de una CPU: un tick de Round Robin y la lectura de carga.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundRobinBench {
+
+    @Param({"100", "10000", "100000"})
+    public int procesos;
+
+    @Param({"4"})
+    public int quantum;
+
+    private RoundRobin rr;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        TiempoGlobal.reset();
+        rr = new RoundRobin(quantum);
+        for (int i = 0; i < procesos; i++) {
+            // ráfagas enormes: nadie termina, el RR rota quantum tras quantum
+            rr.agregarProceso(new Proceso(i, i % 8, 0, Integer.MAX_VALUE, 0));
+        }
+        rr.ejecutarUnTick(); // drena los entrantes a las colas
+    }
+
+    @Benchmark
+    public boolean ejecutarUnTick() {
+        return rr.ejecutarUnTick();
+    }
+
+    @Benchmark
+    public int getCantidadProcesos() {
+        return rr.getCantidadProcesos();
+    }
+}
@@ -0,0 +1,61 @@
+package simulador.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import simulador.PlanificadorMultiprocesador;
+import simulador.Proceso;
+import simulador.TiempoGlobal;
+
+// Extremo a extremo: reloj + CPUs reales sin pausa, hasta que termina toda la carga.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimulacionBench {
+
+    @Param({"4", "16"})
+    public int cpus;
+
+    @Param({"1000", "10000"})
+    public int procesos;
+
+    @Param({"16384"})
+    public int ramKB;
+
+    @Param({"POR_TICK", "EVENTOS"})
+    public PlanificadorMultiprocesador.Motor motor;
+
+    private PlanificadorMultiprocesador plan;
+
+    @Setup(Level.Invocation)
+    public void preparar() {
+        TiempoGlobal.reset();
+        plan = new PlanificadorMultiprocesador(cpus, 4, ramKB);
+        plan.setFactorTiempoReal(PlanificadorMultiprocesador.SIN_PAUSA);
+        plan.setMotor(motor);
+
+        SplittableRandom rnd = new SplittableRandom(7);
+        for (int i = 0; i < procesos; i++) {
+            plan.agregarProceso(new Proceso(i, 1 + rnd.nextInt(5), -1, 5 + rnd.nextInt(60), 16 + rnd.nextInt(256)));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void detener() {
+        plan.detener();
+    }
+
+    @Benchmark
+    public int correrHastaTerminar() throws InterruptedException {
+        plan.iniciar();
+        while (plan.getCantidadTerminados() < procesos) {
+            Thread.sleep(1);
+        }
+        return TiempoGlobal.get();
+    }
+}
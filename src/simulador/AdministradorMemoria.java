@@ -0,0 +1,194 @@
+package simulador;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AdministradorMemoria {
+
+    public static class Bloque {
+        public int inicio;
+        public int tamano; 
+        public Proceso proceso; // null si libre
+
+        public Bloque(int inicio, int tamano, Proceso proceso) {
+            this.inicio = inicio;
+            this.tamano = tamano;
+            this.proceso = proceso;
+        }
+
+        public boolean estaLibre() {
+            return proceso == null;
+        }
+
+        @Override
+        public String toString() {
+            if (estaLibre()) {
+                return String.format("[Libre | inicio=%dKB | tam=%dKB]", inicio, tamano);
+            } else {
+                return String.format("[P%d | inicio=%dKB | tam=%dKB]", proceso.getId(), inicio, tamano);
+            }
+        }
+    }
+
+    // "512", "256kb" o "2mb" -> KB; 0 si no se entiende
+    public static int parsearTamanoKB(String token) {
+        if (token == null) return 0;
+        token = token.trim().toLowerCase();
+        try {
+            if (token.endsWith("kb")) {
+                return Integer.parseInt(token.substring(0, token.length() - 2).trim());
+            } else if (token.endsWith("mb")) {
+                int mb = Integer.parseInt(token.substring(0, token.length() - 2).trim());
+                return mb * 1024;
+            } else {
+                // asumimos número en KB
+                return Integer.parseInt(token);
+            }
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private final EstrategiaAsignacion estrategia;
+    // bloque ocupado por cada proceso: liberar no necesita buscarlo
+    private final Map<Proceso, Bloque> bloquePorProceso = new HashMap<>();
+    private final int tamTotalKB;
+    private int ocupadoKB = 0;
+
+    // aviso de memoria liberada (el planificador lo usa para reactivar suspendidos)
+    private Runnable onLiberacion;
+
+    // Métricas de la estrategia
+    private long asignaciones = 0;
+    private long asignacionesFallidas = 0;
+    private long nanosAsignacion = 0;
+
+    // Copias de los valores de arriba que se publican al final de cada asignar/liberar:
+    // los monitores (JMX, exportadores) las leen sin competir por el lock
+    private volatile int publicadoOcupadoKB = 0;
+    private volatile int publicadoMayorLibre;
+    private volatile int publicadoBloquesLibres;
+    private volatile int publicadoLibreKB;
+    private volatile long publicadoFallidas = 0;
+
+    public AdministradorMemoria(int tamTotalKB) {
+        this(tamTotalKB, EstrategiaAsignacion.Tipo.MEJOR_AJUSTE);
+    }
+
+    public AdministradorMemoria(int tamTotalKB, EstrategiaAsignacion.Tipo tipo) {
+        this.tamTotalKB = tamTotalKB;
+        this.estrategia = tipo.crear(tamTotalKB);
+        publicar();
+    }
+
+    // intento de asignación con la estrategia configurada; retorna true si se asignó
+    public synchronized boolean asignar(Proceso p) {
+        int need = p.getTamMemoriaKB();
+        if (need <= 0) {
+            // procesos sin requerimiento de memoria pasan sin ocupar
+            return true;
+        }
+
+        long t0 = System.nanoTime();
+        Bloque b = estrategia.asignar(p, need);
+        nanosAsignacion += System.nanoTime() - t0;
+        asignaciones++;
+
+        if (b == null) {
+            asignacionesFallidas++;
+            publicadoFallidas = asignacionesFallidas;
+            return false;
+        }
+        bloquePorProceso.put(p, b);
+        ocupadoKB += b.tamano;
+        publicar();
+        return true;
+    }
+
+    // libera memoria ocupada por proceso p
+    public synchronized void liberar(Proceso p) {
+        if (p == null) return;
+        Bloque b = bloquePorProceso.remove(p);
+        if (b == null) return;
+        ocupadoKB -= b.tamano; // antes de fusionar: la fusión cambia el tamaño
+        estrategia.liberar(b);
+        publicar();
+        if (onLiberacion != null) onLiberacion.run();
+    }
+
+    // con el lock tomado
+    private void publicar() {
+        publicadoOcupadoKB = ocupadoKB;
+        publicadoMayorLibre = estrategia.getMayorBloqueLibre();
+        publicadoBloquesLibres = estrategia.getCantidadBloquesLibres();
+        publicadoLibreKB = estrategia.getLibreKB();
+    }
+
+    public synchronized void setOnLiberacion(Runnable listener) {
+        this.onLiberacion = listener;
+    }
+
+    // snapshot para GUI (copia, en orden de dirección)
+    public synchronized List<Bloque> getSnapshot() {
+        return estrategia.getBloques();
+    }
+
+    public int getTamTotalKB() {
+        return tamTotalKB;
+    }
+
+    // helper: uso total actualmente ocupado (KB)
+    public synchronized int getOcupadoKB() {
+        return ocupadoKB;
+    }
+
+    public EstrategiaAsignacion.Tipo getTipoEstrategia() {
+        return estrategia.getTipo();
+    }
+
+    public synchronized int getMayorBloqueLibre() {
+        return estrategia.getMayorBloqueLibre();
+    }
+
+    public synchronized int getCantidadBloquesLibres() {
+        return estrategia.getCantidadBloquesLibres();
+    }
+
+    // Fragmentación externa: 1 - (mayor hueco / memoria libre total). 0 = un único hueco.
+    public synchronized double getFragmentacionExterna() {
+        int libre = estrategia.getLibreKB();
+        return libre == 0 ? 0 : 1.0 - (double) estrategia.getMayorBloqueLibre() / libre;
+    }
+
+    public synchronized long getAsignacionesFallidas() {
+        return asignacionesFallidas;
+    }
+
+    public synchronized double getLatenciaPromedioAsignacionNs() {
+        return asignaciones == 0 ? 0 : (double) nanosAsignacion / asignaciones;
+    }
+
+    // ---- lecturas sin lock (último estado publicado; cada valor por separado) ----
+
+    public int getOcupadoKBPublicado() {
+        return publicadoOcupadoKB;
+    }
+
+    public int getMayorBloqueLibrePublicado() {
+        return publicadoMayorLibre;
+    }
+
+    public int getCantidadBloquesLibresPublicada() {
+        return publicadoBloquesLibres;
+    }
+
+    public double getFragmentacionExternaPublicada() {
+        int libre = publicadoLibreKB;
+        return libre == 0 ? 0 : Math.max(0, 1.0 - (double) publicadoMayorLibre / libre);
+    }
+
+    public long getAsignacionesFallidasPublicadas() {
+        return publicadoFallidas;
+    }
+}
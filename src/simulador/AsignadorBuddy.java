@@ -0,0 +1,134 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+// Sistema buddy binario: los bloques miden potencias de 2 KB y cada bloque solo se
+// fusiona con su "compañero" (dirección XOR tamaño). Dividir y fusionar cuesta
+// O(log n). Si la RAM no es potencia de 2 se parte en varias raíces (una por bit
+// encendido del tamaño total), cada una alineada a su propio tamaño.
+public class AsignadorBuddy implements EstrategiaAsignacion {
+
+    private static final int ORDENES = 31; // bloques de 2^0 .. 2^30 KB
+
+    // Todos los bloques por dirección (para el snapshot y para liberar)
+    private final TreeMap<Integer, AdministradorMemoria.Bloque> bloques = new TreeMap<>();
+    // Huecos libres por orden (tamaño = 2^orden), indexados por dirección
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final TreeMap<Integer, AdministradorMemoria.Bloque>[] libres = new TreeMap[ORDENES];
+    // Orden máximo de cada raíz (clave: dirección de inicio de la raíz)
+    private final TreeMap<Integer, Integer> raices = new TreeMap<>();
+
+    private int libreKB = 0;
+    private int cantidadLibres = 0;
+
+    public AsignadorBuddy(int tamTotalKB) {
+        for (int k = 0; k < ORDENES; k++) libres[k] = new TreeMap<>();
+
+        int base = 0;
+        for (int k = ORDENES - 1; k >= 0; k--) {
+            if ((tamTotalKB & (1 << k)) != 0) {
+                AdministradorMemoria.Bloque raiz = new AdministradorMemoria.Bloque(base, 1 << k, null);
+                bloques.put(base, raiz);
+                raices.put(base, k);
+                agregarLibre(raiz, k);
+                base += 1 << k;
+            }
+        }
+    }
+
+    // menor orden cuyo bloque alcanza tamKB
+    private static int ordenPara(int tamKB) {
+        return tamKB <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(tamKB - 1);
+    }
+
+    @Override
+    public AdministradorMemoria.Bloque asignar(Proceso p, int tamKB) {
+        int k = ordenPara(tamKB);
+        int j = k;
+        while (j < ORDENES && libres[j].isEmpty()) j++;
+        if (j >= ORDENES) return null;
+
+        AdministradorMemoria.Bloque b = libres[j].firstEntry().getValue();
+        quitarLibre(b, j);
+
+        // dividir a la mitad hasta llegar al orden pedido; la mitad alta queda libre
+        while (j > k) {
+            j--;
+            AdministradorMemoria.Bloque mitad = new AdministradorMemoria.Bloque(b.inicio + (1 << j), 1 << j, null);
+            b.tamano = 1 << j;
+            bloques.put(mitad.inicio, mitad);
+            agregarLibre(mitad, j);
+        }
+
+        b.proceso = p;
+        return b;
+    }
+
+    @Override
+    public void liberar(AdministradorMemoria.Bloque b) {
+        b.proceso = null;
+        fusionar(b);
+    }
+
+    // sube fusionando con el compañero mientras esté libre y no se pase de la raíz
+    private void fusionar(AdministradorMemoria.Bloque b) {
+        int k = ordenPara(b.tamano);
+        int maxOrden = raices.floorEntry(b.inicio).getValue();
+        while (k < maxOrden) {
+            AdministradorMemoria.Bloque companero = libres[k].get(b.inicio ^ (1 << k));
+            if (companero == null) break;
+            quitarLibre(companero, k);
+            if (companero.inicio < b.inicio) {
+                bloques.remove(b.inicio);
+                b = companero;
+            } else {
+                bloques.remove(companero.inicio);
+            }
+            k++;
+            b.tamano = 1 << k;
+        }
+        agregarLibre(b, k);
+    }
+
+    private void agregarLibre(AdministradorMemoria.Bloque b, int orden) {
+        libres[orden].put(b.inicio, b);
+        libreKB += b.tamano;
+        cantidadLibres++;
+    }
+
+    private void quitarLibre(AdministradorMemoria.Bloque b, int orden) {
+        libres[orden].remove(b.inicio);
+        libreKB -= b.tamano;
+        cantidadLibres--;
+    }
+
+    @Override
+    public List<AdministradorMemoria.Bloque> getBloques() {
+        return new ArrayList<>(bloques.values());
+    }
+
+    @Override
+    public int getLibreKB() {
+        return libreKB;
+    }
+
+    @Override
+    public int getMayorBloqueLibre() {
+        for (int k = ORDENES - 1; k >= 0; k--) {
+            if (!libres[k].isEmpty()) return 1 << k;
+        }
+        return 0;
+    }
+
+    @Override
+    public int getCantidadBloquesLibres() {
+        return cantidadLibres;
+    }
+
+    @Override
+    public Tipo getTipo() {
+        return Tipo.BUDDY;
+    }
+}
@@ -0,0 +1,206 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Base de las estrategias de particiones variables (first/next/best/worst-fit).
+// Todas comparten la misma estructura: bloques por dirección para dividir y
+// fusionar con los vecinos, e índices de huecos libres por dirección y por tamaño.
+// Cada subclase solo decide qué hueco usar.
+public abstract class AsignadorContiguo implements EstrategiaAsignacion {
+
+    private static final Comparator<AdministradorMemoria.Bloque> POR_TAMANO =
+            Comparator.<AdministradorMemoria.Bloque>comparingInt(b -> b.tamano).thenComparingInt(b -> b.inicio);
+
+    // Todos los bloques (libres y ocupados) ordenados por dirección de inicio
+    protected final TreeMap<Integer, AdministradorMemoria.Bloque> bloques = new TreeMap<>();
+    // Solo los huecos libres, por dirección y por tamaño (luego dirección)
+    protected final TreeMap<Integer, AdministradorMemoria.Bloque> libresPorDireccion = new TreeMap<>();
+    protected final TreeSet<AdministradorMemoria.Bloque> libresPorTamano = new TreeSet<>(POR_TAMANO);
+
+    private int libreKB;
+
+    protected AsignadorContiguo(int tamTotalKB) {
+        // toda la memoria como bloque libre
+        AdministradorMemoria.Bloque inicial = new AdministradorMemoria.Bloque(0, tamTotalKB, null);
+        bloques.put(0, inicial);
+        agregarLibre(inicial);
+        libreKB = tamTotalKB;
+    }
+
+    // Elige el hueco libre a usar para tamKB (null si ninguno alcanza)
+    protected abstract AdministradorMemoria.Bloque elegirHueco(int tamKB);
+
+    @Override
+    public AdministradorMemoria.Bloque asignar(Proceso p, int tamKB) {
+        AdministradorMemoria.Bloque hueco = elegirHueco(tamKB);
+        if (hueco == null) return null;
+
+        quitarLibre(hueco);
+        if (hueco.tamano > tamKB) {
+            // dividir: ocupado al inicio, libre después
+            AdministradorMemoria.Bloque libre =
+                    new AdministradorMemoria.Bloque(hueco.inicio + tamKB, hueco.tamano - tamKB, null);
+            hueco.tamano = tamKB;
+            bloques.put(libre.inicio, libre);
+            agregarLibre(libre);
+        }
+        hueco.proceso = p;
+        libreKB -= tamKB;
+        return hueco;
+    }
+
+    @Override
+    public void liberar(AdministradorMemoria.Bloque b) {
+        b.proceso = null;
+        libreKB += b.tamano;
+        fusionarConVecinos(b);
+    }
+
+    // fusiona el bloque recién liberado con sus vecinos libres (izquierdo y derecho)
+    private void fusionarConVecinos(AdministradorMemoria.Bloque b) {
+        Map.Entry<Integer, AdministradorMemoria.Bloque> der = bloques.higherEntry(b.inicio);
+        if (der != null && der.getValue().estaLibre()) {
+            AdministradorMemoria.Bloque d = der.getValue();
+            quitarLibre(d);
+            bloques.remove(d.inicio);
+            b.tamano += d.tamano;
+        }
+
+        Map.Entry<Integer, AdministradorMemoria.Bloque> izq = bloques.lowerEntry(b.inicio);
+        if (izq != null && izq.getValue().estaLibre()) {
+            AdministradorMemoria.Bloque i = izq.getValue();
+            quitarLibre(i); // cambia de tamaño: sacar antes de modificar
+            bloques.remove(b.inicio);
+            i.tamano += b.tamano;
+            b = i;
+        }
+
+        agregarLibre(b);
+    }
+
+    protected void agregarLibre(AdministradorMemoria.Bloque b) {
+        libresPorDireccion.put(b.inicio, b);
+        libresPorTamano.add(b);
+    }
+
+    protected void quitarLibre(AdministradorMemoria.Bloque b) {
+        libresPorDireccion.remove(b.inicio);
+        libresPorTamano.remove(b);
+    }
+
+    @Override
+    public List<AdministradorMemoria.Bloque> getBloques() {
+        return new ArrayList<>(bloques.values());
+    }
+
+    @Override
+    public int getLibreKB() {
+        return libreKB;
+    }
+
+    @Override
+    public int getMayorBloqueLibre() {
+        return libresPorTamano.isEmpty() ? 0 : libresPorTamano.last().tamano;
+    }
+
+    @Override
+    public int getCantidadBloquesLibres() {
+        return libresPorDireccion.size();
+    }
+
+    // -----------------------
+    // Estrategias
+    // -----------------------
+
+    // Primer hueco (por dirección) que alcance
+    public static class PrimerAjuste extends AsignadorContiguo {
+        public PrimerAjuste(int tamTotalKB) {
+            super(tamTotalKB);
+        }
+
+        @Override
+        protected AdministradorMemoria.Bloque elegirHueco(int tamKB) {
+            if (getMayorBloqueLibre() < tamKB) return null;
+            for (AdministradorMemoria.Bloque b : libresPorDireccion.values()) {
+                if (b.tamano >= tamKB) return b;
+            }
+            return null;
+        }
+
+        @Override
+        public Tipo getTipo() {
+            return Tipo.PRIMER_AJUSTE;
+        }
+    }
+
+    // Como primer ajuste, pero retoma la búsqueda desde la última asignación
+    public static class SiguienteAjuste extends AsignadorContiguo {
+        private int ultimaDireccion = 0;
+
+        public SiguienteAjuste(int tamTotalKB) {
+            super(tamTotalKB);
+        }
+
+        @Override
+        protected AdministradorMemoria.Bloque elegirHueco(int tamKB) {
+            if (getMayorBloqueLibre() < tamKB) return null;
+            AdministradorMemoria.Bloque b = buscar(libresPorDireccion.tailMap(ultimaDireccion, true), tamKB);
+            if (b == null) b = buscar(libresPorDireccion.headMap(ultimaDireccion, false), tamKB);
+            if (b != null) ultimaDireccion = b.inicio;
+            return b;
+        }
+
+        private static AdministradorMemoria.Bloque buscar(Map<Integer, AdministradorMemoria.Bloque> huecos, int tamKB) {
+            for (AdministradorMemoria.Bloque b : huecos.values()) {
+                if (b.tamano >= tamKB) return b;
+            }
+            return null;
+        }
+
+        @Override
+        public Tipo getTipo() {
+            return Tipo.SIGUIENTE_AJUSTE;
+        }
+    }
+
+    // Hueco más chico que alcance; a igual tamaño, el de menor dirección
+    public static class MejorAjuste extends AsignadorContiguo {
+        public MejorAjuste(int tamTotalKB) {
+            super(tamTotalKB);
+        }
+
+        @Override
+        protected AdministradorMemoria.Bloque elegirHueco(int tamKB) {
+            return libresPorTamano.ceiling(new AdministradorMemoria.Bloque(Integer.MIN_VALUE, tamKB, null));
+        }
+
+        @Override
+        public Tipo getTipo() {
+            return Tipo.MEJOR_AJUSTE;
+        }
+    }
+
+    // Hueco más grande (deja el sobrante más aprovechable)
+    public static class PeorAjuste extends AsignadorContiguo {
+        public PeorAjuste(int tamTotalKB) {
+            super(tamTotalKB);
+        }
+
+        @Override
+        protected AdministradorMemoria.Bloque elegirHueco(int tamKB) {
+            if (libresPorTamano.isEmpty()) return null;
+            AdministradorMemoria.Bloque b = libresPorTamano.last();
+            return b.tamano >= tamKB ? b : null;
+        }
+
+        @Override
+        public Tipo getTipo() {
+            return Tipo.PEOR_AJUSTE;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Cola sin locks de filas de TablaProcesos: muchos productores (ubicación,
+// reactivación, GUI) y un único consumidor (la CPU dueña del RoundRobin).
+// Guarda los valores en tramos de enteros encadenados, sin un nodo por elemento.
+// Cada productor reserva una casilla con getAndIncrement; una casilla en 0 es
+// "todavía sin escribir" (se guarda fila + 1), y el consumidor se detiene ahí
+// para no alterar el orden de llegada.
+public class ColaEntrantes {
+
+    private static final int TAM_TRAMO = 1024;
+
+    private static final class Tramo {
+        final AtomicIntegerArray valores = new AtomicIntegerArray(TAM_TRAMO);
+        final AtomicInteger reservados = new AtomicInteger();
+        final AtomicReference<Tramo> siguiente = new AtomicReference<>();
+    }
+
+    private final AtomicReference<Tramo> cola;
+    private final AtomicInteger pendientes = new AtomicInteger();
+
+    // solo las escribe el consumidor; volatile para las copias de la GUI
+    private volatile Tramo cabeza;
+    private volatile int leidos = 0;
+
+    public ColaEntrantes() {
+        Tramo t = new Tramo();
+        cabeza = t;
+        cola = new AtomicReference<>(t);
+    }
+
+    // Desde cualquier hilo
+    public void agregar(int fila) {
+        while (true) {
+            Tramo t = cola.get();
+            int i = t.reservados.getAndIncrement();
+            if (i < TAM_TRAMO) {
+                t.valores.set(i, fila + 1);
+                pendientes.incrementAndGet();
+                return;
+            }
+            // tramo lleno: enlazar uno nuevo (o usar el que enlazó otro productor)
+            Tramo sig = t.siguiente.get();
+            if (sig == null) {
+                Tramo nuevo = new Tramo();
+                sig = t.siguiente.compareAndSet(null, nuevo) ? nuevo : t.siguiente.get();
+            }
+            cola.compareAndSet(t, sig);
+        }
+    }
+
+    // Solo el consumidor. Retorna TablaProcesos.NINGUNA si no hay nada listo.
+    public int sacar() {
+        Tramo t = cabeza;
+        int i = leidos;
+        if (i == TAM_TRAMO) {
+            Tramo sig = t.siguiente.get();
+            if (sig == null) return TablaProcesos.NINGUNA;
+            i = 0;
+            leidos = 0;
+            cabeza = t = sig;
+        }
+        int v = t.valores.get(i);
+        if (v == 0) return TablaProcesos.NINGUNA; // vacía, o un productor aún escribiendo
+        leidos = i + 1;
+        pendientes.decrementAndGet();
+        return v - 1;
+    }
+
+    public boolean estaVacia() {
+        return pendientes.get() == 0;
+    }
+
+    // Copia aproximada (sin lock) para la GUI
+    public void copiar(ListaEnteros destino) {
+        Tramo t = cabeza;
+        int i = leidos;
+        while (t != null) {
+            for (; i < TAM_TRAMO; i++) {
+                int v = t.valores.get(i);
+                if (v == 0) return;
+                destino.agregar(v - 1);
+            }
+            t = t.siguiente.get();
+            i = 0;
+        }
+    }
+}
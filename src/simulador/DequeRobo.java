@@ -0,0 +1,81 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Deque de robo de trabajo al estilo Chase-Lev (arreglo circular + índices top/bottom).
+// Un único dueño agrega por abajo sin locks; cualquiera saca por arriba con un CAS
+// sobre top. A diferencia del Chase-Lev clásico, el dueño también consume por
+// arriba para conservar el orden FIFO del Round Robin, así que dueño y ladrones
+// solo compiten en ese CAS y nunca por un monitor.
+// Guarda filas de TablaProcesos, no objetos.
+public class DequeRobo {
+
+    private volatile int[] arreglo = new int[16]; // tamaño potencia de 2
+    private final AtomicLong top = new AtomicLong(0);
+    private volatile long bottom = 0;
+
+    // ---- solo el dueño ----
+
+    public void agregar(int fila) {
+        long b = bottom;
+        long t = top.get();
+        int[] a = arreglo;
+        if (b - t >= a.length - 1) {
+            a = crecer(a, b, t);
+        }
+        a[(int) (b & (a.length - 1))] = fila;
+        bottom = b + 1; // escritura volatile: publica el elemento a los ladrones
+    }
+
+    // Duplica el arreglo. Los elementos siguen en el arreglo viejo con los mismos
+    // índices lógicos, así que un ladrón que todavía lo lea obtiene el valor correcto.
+    private int[] crecer(int[] viejo, long b, long t) {
+        int[] nuevo = new int[viejo.length * 2];
+        for (long i = t; i < b; i++) {
+            nuevo[(int) (i & (nuevo.length - 1))] = viejo[(int) (i & (viejo.length - 1))];
+        }
+        arreglo = nuevo;
+        return nuevo;
+    }
+
+    // ---- dueño y ladrones ----
+
+    // Saca el elemento más antiguo; reintenta si otro hilo ganó el CAS.
+    // Retorna TablaProcesos.NINGUNA solo si el deque está vacío.
+    public int sacar() {
+        while (true) {
+            long t = top.get();
+            long b = bottom;
+            if (t >= b) return TablaProcesos.NINGUNA;
+            int[] a = arreglo;
+            int f = a[(int) (t & (a.length - 1))];
+            if (top.compareAndSet(t, t + 1)) return f;
+        }
+    }
+
+    // Mira el elemento más antiguo sin sacarlo (el dueño, o el reloj con las CPUs detenidas)
+    public int verPrimero() {
+        long t = top.get();
+        if (t >= bottom) return TablaProcesos.NINGUNA;
+        int[] a = arreglo;
+        return a[(int) (t & (a.length - 1))];
+    }
+
+    public boolean estaVacio() {
+        return top.get() >= bottom;
+    }
+
+    public int tamano() {
+        return (int) Math.max(0, bottom - top.get());
+    }
+
+    // Copia aproximada (sin lock) para la GUI
+    public void copiar(ListaEnteros destino) {
+        long t = top.get();
+        long b = bottom;
+        int[] a = arreglo;
+        for (long i = t; i < b; i++) {
+            destino.agregar(a[(int) (i & (a.length - 1))]);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package simulador;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// Punto de entrada sin interfaz gráfica para corridas automáticas: nunca carga Swing.
+// Corre la carga completa a máxima velocidad e imprime las mismas estadísticas que Main.
+//
+//   java -cp simulador.jar simulador.EjecutorLotes <cpus> <quantum> <ram> <carga> [-motor tick|eventos] [-o archivo] [-sin-detalle] [-eventos archivo] [-metricas puerto]
+//
+// <ram> acepta 4096, 512kb o 16mb. <carga> es una traza (.csv o binaria) o
+// gen:<cantidad>[:<semilla>[:<tasa>]] para el generador sintético (Poisson + Pareto).
+// Con gen: también valen (ver GeneradorCarga):
+//   -llegadas poisson:<tasa> | rafagas:<tasaAlta>,<tasaBaja>,<duracionAlta>,<duracionBaja>
+//   -rafaga pareto:<alfa>,<minimo> | lognormal:<mu>,<sigma>
+//   -rafaga-max <ticks>
+//   -memoria <tamaño>=<peso>,...   (p. ej. 64=30,256=50,1mb=20)
+// -sin-detalle no retiene los procesos terminados: solo se informan las latencias.
+// -eventos graba el registro binario de eventos (ver LectorEventos).
+// -metricas sirve http://localhost:<puerto>/metrics para Prometheus mientras corre.
+public class EjecutorLotes {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.out.println("Uso: EjecutorLotes <cpus> <quantum> <ram> <carga> [-motor tick|eventos] [-o archivo] [-sin-detalle] [-eventos archivo] [-metricas puerto]");
+            System.out.println("  <carga>: traza .csv o binaria, o gen:<cantidad>[:<semilla>[:<tasa>]]");
+            System.out.println("  con gen: [-llegadas poisson:<tasa>|rafagas:<alta>,<baja>,<durAlta>,<durBaja>]");
+            System.out.println("           [-rafaga pareto:<alfa>,<min>|lognormal:<mu>,<sigma>] [-rafaga-max ticks] [-memoria kb=peso,...]");
+            System.exit(2);
+        }
+
+        int cpus = Integer.parseInt(args[0]);
+        int quantum = Integer.parseInt(args[1]);
+        int ramKB = AdministradorMemoria.parsearTamanoKB(args[2]);
+        if (cpus < 1 || quantum < 1 || ramKB < 1) {
+            throw new IllegalArgumentException("cpus, quantum y ram deben ser positivos.");
+        }
+
+        PlanificadorMultiprocesador.Motor motor = PlanificadorMultiprocesador.Motor.EVENTOS;
+        String archivoSalida = null;
+        boolean detalle = true;
+        String archivoEventos = null;
+        int puertoMetricas = -1;
+        List<String[]> opcionesGenerador = new ArrayList<>();
+        for (int i = 4; i < args.length; i++) {
+            if (args[i].equals("-motor") && i + 1 < args.length) {
+                motor = args[++i].equalsIgnoreCase("tick")
+                        ? PlanificadorMultiprocesador.Motor.POR_TICK
+                        : PlanificadorMultiprocesador.Motor.EVENTOS;
+            } else if (args[i].equals("-o") && i + 1 < args.length) {
+                archivoSalida = args[++i];
+            } else if (args[i].equals("-eventos") && i + 1 < args.length) {
+                archivoEventos = args[++i];
+            } else if (args[i].equals("-metricas") && i + 1 < args.length) {
+                puertoMetricas = Integer.parseInt(args[++i]);
+            } else if (esOpcionGenerador(args[i]) && i + 1 < args.length) {
+                opcionesGenerador.add(new String[] {args[i], args[++i]});
+            } else if (args[i].equals("-sin-detalle")) {
+                detalle = false;
+            } else {
+                throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        TiempoGlobal.reset();
+        PlanificadorMultiprocesador plan = new PlanificadorMultiprocesador(cpus, quantum, ramKB);
+        plan.setFactorTiempoReal(PlanificadorMultiprocesador.SIN_PAUSA);
+        plan.setMotor(motor);
+        plan.setRetenerTerminados(detalle);
+        plan.setFuenteCarga(abrirCarga(args[3], opcionesGenerador));
+        if (archivoEventos != null) {
+            plan.setRegistroEventos(new RegistroEventos(Paths.get(archivoEventos)));
+        }
+
+        plan.setPuertoMetricas(puertoMetricas);
+
+        long inicio = System.nanoTime();
+        plan.iniciar();
+        if (plan.getPuertoMetricas() >= 0) {
+            System.out.println("Métricas en http://localhost:" + plan.getPuertoMetricas() + "/metrics");
+        }
+        int sinMemoria = esperarFin(plan);
+        plan.detener();
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf("Corrida: %d CPUs, quantum=%d, RAM=%dKB, motor=%s, carga=%s%n",
+                cpus, quantum, ramKB, motor, args[3]);
+        System.out.printf("Procesos: %d llegadas, %d terminados, tick final=%d, %d ms%n",
+                plan.getLlegadasInyectadas(), plan.getCantidadTerminados(), TiempoGlobal.get(), ms);
+        if (archivoEventos != null) {
+            System.out.println(plan.getRegistroEventos().getCantidad() + " eventos grabados en " + archivoEventos);
+        }
+        if (sinMemoria > 0) {
+            System.out.println(sinMemoria + " procesos quedaron suspendidos: piden más memoria de la disponible");
+        }
+
+        if (archivoSalida == null) {
+            Estadisticas.imprimir(plan, System.out);
+        } else {
+            try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(archivoSalida), 1 << 16),
+                    false, StandardCharsets.UTF_8)) {
+                Estadisticas.imprimir(plan, out);
+            }
+            System.out.println("Estadísticas escritas en " + archivoSalida);
+        }
+    }
+
+    static FuenteCarga abrirCarga(String carga, List<String[]> opcionesGenerador) throws IOException {
+        if (!carga.startsWith("gen:")) {
+            if (!opcionesGenerador.isEmpty()) {
+                throw new IllegalArgumentException(opcionesGenerador.get(0)[0] + " solo vale con una carga gen:");
+            }
+            return FuenteCarga.abrir(carga);
+        }
+        String[] p = carga.substring(4).split(":");
+        long cantidad = Long.parseLong(p[0]);
+        long semilla = p.length > 1 ? Long.parseLong(p[1]) : 1;
+        GeneradorCarga gen = new GeneradorCarga(semilla, cantidad);
+        if (p.length > 2) gen.setLlegadasPoisson(Double.parseDouble(p[2]));
+        for (String[] o : opcionesGenerador) {
+            configurarGenerador(gen, o[0], o[1]);
+        }
+        return gen;
+    }
+
+    private static boolean esOpcionGenerador(String opcion) {
+        return opcion.equals("-llegadas") || opcion.equals("-rafaga")
+                || opcion.equals("-rafaga-max") || opcion.equals("-memoria");
+    }
+
+    private static void configurarGenerador(GeneradorCarga gen, String opcion, String valor) {
+        switch (opcion) {
+            case "-llegadas": {
+                double[] v = numeros(opcion, valor, "poisson", 1, "rafagas", 4);
+                if (valor.startsWith("poisson")) gen.setLlegadasPoisson(v[0]);
+                else gen.setLlegadasRafagas(v[0], v[1], v[2], v[3]);
+                break;
+            }
+            case "-rafaga": {
+                double[] v = numeros(opcion, valor, "pareto", 2, "lognormal", 2);
+                if (valor.startsWith("pareto")) gen.setRafagaPareto(v[0], v[1]);
+                else gen.setRafagaLogNormal(v[0], v[1]);
+                break;
+            }
+            case "-rafaga-max":
+                gen.setRafagaMaxima(Integer.parseInt(valor));
+                break;
+            default: { // -memoria
+                String[] pares = valor.split(",");
+                int[] tamanos = new int[pares.length];
+                double[] pesos = new double[pares.length];
+                for (int i = 0; i < pares.length; i++) {
+                    String[] par = pares[i].split("=");
+                    if (par.length != 2 || AdministradorMemoria.parsearTamanoKB(par[0]) < 1) {
+                        throw new IllegalArgumentException("-memoria espera tamaño=peso,...: " + valor);
+                    }
+                    tamanos[i] = AdministradorMemoria.parsearTamanoKB(par[0]);
+                    pesos[i] = Double.parseDouble(par[1]);
+                }
+                gen.setHistogramaMemoria(tamanos, pesos);
+            }
+        }
+    }
+
+    // "<tipo>:<n1>,<n2>,..." con tipo a (na números) o b (nb números)
+    private static double[] numeros(String opcion, String valor, String a, int na, String b, int nb) {
+        String[] tv = valor.split(":", 2);
+        int n = tv[0].equals(a) ? na : tv[0].equals(b) ? nb : -1;
+        String[] partes = tv.length == 2 ? tv[1].split(",") : new String[0];
+        if (n < 0 || partes.length != n) {
+            throw new IllegalArgumentException(opcion + " espera " + a + ": con " + na + " valores o "
+                    + b + ": con " + nb + " valores: " + valor);
+        }
+        double[] r = new double[n];
+        for (int i = 0; i < n; i++) r[i] = Double.parseDouble(partes[i]);
+        return r;
+    }
+
+    // Espera a que toda la carga haya llegado y terminado. Si lo único que queda son
+    // suspendidos que no entran ni con la memoria vacía, termina igual y devuelve cuántos.
+    private static int esperarFin(PlanificadorMultiprocesador plan) throws InterruptedException {
+        int tickAtascado = -1;
+        while (true) {
+            Thread.sleep(10);
+            if (plan.hayLlegadasPendientes()) continue;
+
+            long pendientes = plan.getLlegadasInyectadas() - plan.getCantidadTerminados();
+            if (pendientes == 0) return 0;
+
+            int suspendidos = plan.getCantidadSuspendidos();
+            if (suspendidos < pendientes) {
+                tickAtascado = -1;
+                continue;
+            }
+            // todos los que faltan están suspendidos: darle al reloj un par de ticks
+            // para reactivar lo que quepa antes de darlos por imposibles
+            int ahora = TiempoGlobal.get();
+            if (tickAtascado < 0) {
+                tickAtascado = ahora;
+            } else if (ahora - tickAtascado >= 2) {
+                return suspendidos;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package simulador;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Hilo de fondo que baja a disco los lotes desalojados de los HistorialTerminados
+// de todas las CPUs, para que ninguna CPU espere E/S en el tick. Arranca con el
+// primer lote; cerrar() escribe lo pendiente y lo detiene. Un lote que llega
+// después de cerrar se escribe en el hilo que lo entrega.
+public class EscritorHistorial {
+
+    private static final class Tarea {
+        final HistorialTerminados historial;
+        final int[] datos;
+        final int registros;
+
+        Tarea(HistorialTerminados historial, int[] datos, int registros) {
+            this.historial = historial;
+            this.datos = datos;
+            this.registros = registros;
+        }
+    }
+
+    private static final Tarea FIN = new Tarea(null, null, 0);
+
+    private final LinkedBlockingQueue<Tarea> pendientes = new LinkedBlockingQueue<>();
+    // historiales con archivo abierto (para cerrarlos al final); solo el hilo escritor
+    private final Set<HistorialTerminados> conArchivo = new LinkedHashSet<>();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(HistorialTerminados.LOTE * HistorialTerminados.BYTES_REGISTRO);
+    private Thread hilo = null;
+    private boolean cerrado = false;
+
+    public void encolar(HistorialTerminados historial, int[] datos, int registros) {
+        synchronized (this) {
+            if (!cerrado) {
+                if (hilo == null) {
+                    hilo = new Thread(this::ejecutar, "Escritor-Historial");
+                    hilo.setDaemon(true);
+                    hilo.start();
+                }
+                pendientes.add(new Tarea(historial, datos, registros));
+                return;
+            }
+            // ya cerrado (el hilo puede estar terminando con 'buffer'): escribir acá mismo
+            historial.escribir(datos, registros,
+                    ByteBuffer.allocate(HistorialTerminados.LOTE * HistorialTerminados.BYTES_REGISTRO));
+            historial.cerrarArchivo();
+        }
+    }
+
+    private void ejecutar() {
+        while (true) {
+            Tarea t;
+            try {
+                t = pendientes.take();
+            } catch (InterruptedException e) {
+                continue; // solo se detiene con FIN, así no se pierden lotes
+            }
+            if (t == FIN) break;
+            t.historial.escribir(t.datos, t.registros, buffer);
+            conArchivo.add(t.historial);
+        }
+        for (HistorialTerminados h : conArchivo) {
+            h.cerrarArchivo();
+        }
+    }
+
+    // Escribe todo lo encolado y detiene el hilo
+    public void cerrar() {
+        Thread h;
+        synchronized (this) {
+            if (cerrado) return;
+            cerrado = true;
+            h = hilo;
+            if (h != null) pendientes.add(FIN);
+        }
+        if (h == null) return;
+        try {
+            h.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package simulador;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Escribe trazas en el formato que lee TrazaBinaria.
+// Uso como conversor: java simulador.EscritorTrazaBinaria entrada.csv salida.rtr
+public class EscritorTrazaBinaria implements Closeable {
+
+    private final OutputStream salida;
+    private int ultimaLlegada = 0;
+    private long registros = 0;
+
+    public EscritorTrazaBinaria(String ruta) throws IOException {
+        this(new FileOutputStream(ruta));
+    }
+
+    public EscritorTrazaBinaria(OutputStream destino) throws IOException {
+        this.salida = new BufferedOutputStream(destino, 1 << 16);
+        salida.write(TrazaBinaria.MAGIA >>> 24);
+        salida.write(TrazaBinaria.MAGIA >>> 16);
+        salida.write(TrazaBinaria.MAGIA >>> 8);
+        salida.write(TrazaBinaria.MAGIA);
+        salida.write(TrazaBinaria.VERSION);
+    }
+
+    public void escribir(int llegada, int prioridad, int tiempoCPU, int memKB) throws IOException {
+        String error = validar(llegada, ultimaLlegada, tiempoCPU, memKB);
+        if (error != null) throw new IOException(error);
+        escribirVarint(llegada - ultimaLlegada);
+        escribirVarint(aZigzag(prioridad));
+        escribirVarint(tiempoCPU);
+        escribirVarint(memKB);
+        ultimaLlegada = llegada;
+        registros++;
+    }
+
+    public void escribir(Proceso p) throws IOException {
+        escribir(p.getTiempoLlegada(), p.getPrioridad(), p.getTiempoCPU(), p.getTamMemoriaKB());
+    }
+
+    // Reglas de un registro de traza, las mismas para CSV y binaria: null si es válido
+    static String validar(int llegada, int ultimaLlegada, int tiempoCPU, int memKB) {
+        if (llegada < 0) return "Llegada negativa: " + llegada;
+        if (llegada < ultimaLlegada) return "Llegadas desordenadas: " + llegada + " < " + ultimaLlegada;
+        if (tiempoCPU < 0 || memKB < 0) return "tiempoCPU y memKB no pueden ser negativos";
+        return null;
+    }
+
+    public long getRegistros() {
+        return registros;
+    }
+
+    private void escribirVarint(int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            salida.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        salida.write(v);
+    }
+
+    // la prioridad puede ser negativa: zigzag la deja chica en ambos signos
+    static int aZigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    static int desdeZigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        salida.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Uso: java simulador.EscritorTrazaBinaria entrada.csv salida.rtr");
+            return;
+        }
+        try (FuenteCarga origen = FuenteCarga.abrir(args[0]);
+             EscritorTrazaBinaria destino = new EscritorTrazaBinaria(args[1])) {
+            Proceso p;
+            while ((p = origen.siguiente()) != null) {
+                destino.escribir(p);
+            }
+            System.out.println(destino.getRegistros() + " registros escritos en " + args[1]);
+        }
+    }
+}
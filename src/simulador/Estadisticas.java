@@ -0,0 +1,104 @@
+package simulador;
+
+import java.io.PrintStream;
+import java.util.List;
+
+// Bloque de estadísticas finales (por proceso, uso de CPU, robo, memoria, ticks).
+// Separado de Main para que el ejecutor por lotes lo imprima sin cargar Swing.
+public class Estadisticas {
+
+    public static void imprimir(PlanificadorMultiprocesador plan, PrintStream out) {
+        out.println("\n=== ESTADÍSTICAS DE PROCESOS ===");
+
+        if (plan.isRetenerTerminados()) {
+            List<Proceso> terminados = plan.getTodosTerminados();
+            terminados.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+
+            for (Proceso p : terminados) {
+                out.println(
+                        "P" + p.getId() +
+                                " | Resp=" + p.getTiempoRespuesta() +
+                                " | Espera=" + p.getTiempoEspera() +
+                                " | Retorno=" + p.getTiempoRetorno() +
+                                " | Llegada=" + p.getTiempoLlegada() +
+                                " | Inicio=" + p.getTiempoInicio() +
+                                " | Fin=" + p.getTiempoFin() +
+                                " | Mem=" + p.getTamMemoriaKB() + "KB"
+                );
+            }
+        } else {
+            out.println("(detalle por proceso desactivado: " + plan.getCantidadTerminados() + " terminados)");
+        }
+
+        imprimirLatencias(plan.getLatencias(), out);
+
+        out.println("\n=== USO DEL CPU ===");
+
+        int i = 0;
+        for (Procesador cpu : plan.getCpus()) {
+            long usados = cpu.getTicksEjecutados();
+            long total = cpu.getTicksTotales();
+
+            double uso = (total == 0 ? 0 : (100.0 * usados / total));
+
+            out.printf("CPU %d: %.2f%% (trabajo=%d, ticks=%d)\n",
+                    i++, uso, usados, total);
+        }
+
+        double sumaUsos = 0;
+        int cantidadCPUs = plan.getCpus().size();
+
+        for (Procesador cpu : plan.getCpus()) {
+            long usados = cpu.getTicksEjecutados();
+            long total = cpu.getTicksTotales();
+            double uso = (total == 0 ? 0 : (100.0 * usados / total));
+            sumaUsos += uso;
+        }
+
+        double usoPromedio = (cantidadCPUs == 0 ? 0 : sumaUsos / cantidadCPUs);
+
+        out.printf("\nUso promedio del CPU: %.2f%%\n", usoPromedio);
+
+        UbicadorProcesos ub = plan.getUbicador();
+        out.printf("Ubicación (%s): %d procesos, prom=%.0fns\n",
+                ub.getPolitica(), ub.getUbicaciones(), ub.getPromedioUbicacionNs());
+
+        out.printf("Robo de trabajo: intentos=%d, exitosos=%d, procesos movidos=%d (lote prom=%.2f)\n",
+                plan.getIntentosRobo(), plan.getRobosExitosos(), plan.getProcesosRobados(),
+                plan.getPromedioLoteRobo());
+
+        AdministradorMemoria mem = plan.getMemManager();
+        out.printf("Memoria (%s): latencia prom=%.0fns, fragmentación externa=%.1f%%, asignaciones fallidas=%d\n",
+                mem.getTipoEstrategia(), mem.getLatenciaPromedioAsignacionNs(),
+                100 * mem.getFragmentacionExterna(), mem.getAsignacionesFallidas());
+
+        SincronizadorTicks sinc = plan.getSincronizador();
+        out.printf("Duración de tick (CPUs): prom=%.1fus max=%.1fus | reloj prom=%.1fus (%d fases)\n",
+                sinc.getPromedioTrabajoNs() / 1000.0, sinc.getMaxTrabajoNs() / 1000.0,
+                sinc.getPromedioRelojNs() / 1000.0, sinc.getFasesMedidas());
+    }
+
+    // percentiles en ticks: total, por nivel de prioridad y por CPU
+    private static void imprimirLatencias(MetricasLatencia lat, PrintStream out) {
+        out.println("\n=== LATENCIAS (ticks: p50 / p90 / p99 / p999 / max, promedio) ===");
+
+        for (MetricasLatencia.Metrica m : MetricasLatencia.Metrica.values()) {
+            out.printf("%s: %s%n", m, fila(lat, m, -1, -1));
+            for (int nivel : lat.getNivelesUsados()) {
+                out.printf("  prioridad %d: %s%n", nivel, fila(lat, m, -1, nivel));
+            }
+            for (int c = 0; c < lat.getCantidadCpus(); c++) {
+                out.printf("  CPU %d: %s%n", c, fila(lat, m, c, -1));
+            }
+        }
+    }
+
+    private static String fila(MetricasLatencia lat, MetricasLatencia.Metrica m, int cpu, int nivel) {
+        long n = lat.getCantidad(m, cpu, nivel);
+        if (n == 0) return "sin datos";
+        return String.format("%d / %d / %d / %d / %d, prom=%.2f (n=%d)",
+                lat.percentil(m, cpu, nivel, 50), lat.percentil(m, cpu, nivel, 90),
+                lat.percentil(m, cpu, nivel, 99), lat.percentil(m, cpu, nivel, 99.9),
+                lat.getMaximo(m, cpu, nivel), lat.getPromedio(m, cpu, nivel), n);
+    }
+}
@@ -0,0 +1,44 @@
+package simulador;
+
+import java.util.List;
+
+// Política de ubicación de procesos en la memoria contigua.
+// Las implementaciones no son thread-safe: AdministradorMemoria las usa siempre
+// con su monitor tomado.
+public interface EstrategiaAsignacion {
+
+    enum Tipo {
+        PRIMER_AJUSTE,
+        SIGUIENTE_AJUSTE,
+        MEJOR_AJUSTE,
+        PEOR_AJUSTE,
+        BUDDY;
+
+        public EstrategiaAsignacion crear(int tamTotalKB) {
+            switch (this) {
+                case PRIMER_AJUSTE:    return new AsignadorContiguo.PrimerAjuste(tamTotalKB);
+                case SIGUIENTE_AJUSTE: return new AsignadorContiguo.SiguienteAjuste(tamTotalKB);
+                case PEOR_AJUSTE:      return new AsignadorContiguo.PeorAjuste(tamTotalKB);
+                case BUDDY:            return new AsignadorBuddy(tamTotalKB);
+                default:               return new AsignadorContiguo.MejorAjuste(tamTotalKB);
+            }
+        }
+    }
+
+    // Reserva un bloque de al menos tamKB para p; null si no hay hueco
+    AdministradorMemoria.Bloque asignar(Proceso p, int tamKB);
+
+    // Libera un bloque devuelto por asignar y lo fusiona con sus vecinos libres
+    void liberar(AdministradorMemoria.Bloque b);
+
+    // Todos los bloques (libres y ocupados) en orden de dirección
+    List<AdministradorMemoria.Bloque> getBloques();
+
+    int getLibreKB();
+
+    int getMayorBloqueLibre();
+
+    int getCantidadBloquesLibres();
+
+    Tipo getTipo();
+}
@@ -0,0 +1,212 @@
+package simulador;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// Endpoint HTTP local (/metrics) con las métricas del planificador en el formato de
+// texto de Prometheus: ticks, utilización por CPU, colas, robos, memoria y
+// histogramas de respuesta/espera/retorno. Usa el servidor HTTP del JDK en un solo
+// hilo propio, escuchando solo en loopback.
+//
+// Cada scrape lee valores que ya están agregados y se leen sin lock (los mismos
+// contadores que MetricasJMX y los histogramas de MetricasLatencia): nunca espera
+// al reloj ni a las CPUs, así que sirve para seguir corridas de horas.
+public class ExportadorPrometheus {
+
+    private static final String TIPO_CONTENIDO = "text/plain; version=0.0.4; charset=utf-8";
+
+    // límites de los buckets de latencia (ticks): 0, 1, 3, 7, ... 2^31 - 1. Coinciden
+    // con bordes de los buckets de HistogramaLatencia, así que las cuentas son exactas.
+    private static final long[] LIMITES = new long[32];
+
+    static {
+        for (int i = 0; i < LIMITES.length; i++) LIMITES[i] = (1L << i) - 1;
+    }
+
+    private static final String[] NOMBRES_LATENCIA = {"respuesta", "espera", "retorno"};
+
+    private final PlanificadorMultiprocesador plan;
+    private final HttpServer servidor;
+
+    // puerto 0 = cualquiera libre (ver getPuerto)
+    public ExportadorPrometheus(PlanificadorMultiprocesador plan, int puerto) throws IOException {
+        this.plan = plan;
+        this.servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        servidor.createContext("/metrics", this::atender);
+    }
+
+    public void iniciar() {
+        servidor.start();
+    }
+
+    public void detener() {
+        servidor.stop(0);
+    }
+
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    private void atender(HttpExchange ex) throws IOException {
+        try {
+            if (!ex.getRequestMethod().equals("GET") && !ex.getRequestMethod().equals("HEAD")) {
+                ex.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] cuerpo = generar().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().set("Content-Type", TIPO_CONTENIDO);
+            if (ex.getRequestMethod().equals("HEAD")) {
+                ex.sendResponseHeaders(200, -1);
+                return;
+            }
+            ex.sendResponseHeaders(200, cuerpo.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(cuerpo);
+            }
+        } finally {
+            ex.close();
+        }
+    }
+
+    // Texto completo de un scrape. No guarda estado: varios scrapers ven lo mismo.
+    String generar() {
+        StringBuilder sb = new StringBuilder(8192);
+        List<Procesador> cpus = plan.getCpus();
+        SincronizadorTicks sinc = plan.getSincronizador();
+
+        // ---- reloj ----
+        metrica(sb, "simulador_ticks_total", "counter", "Tick global del simulador");
+        valor(sb, "simulador_ticks_total", null, TiempoGlobal.get());
+        metrica(sb, "simulador_ticks_por_segundo", "gauge", "Ticks simulados por segundo real en la última ventana de 1 s del reloj");
+        valor(sb, "simulador_ticks_por_segundo", null, sinc.getTicksPorSegundo());
+        metrica(sb, "simulador_fase_trabajo_promedio_ns", "gauge", "Duración promedio de la fase de CPUs");
+        valor(sb, "simulador_fase_trabajo_promedio_ns", null, sinc.getPromedioTrabajoNs());
+        metrica(sb, "simulador_fase_reloj_promedio_ns", "gauge", "Duración promedio del trabajo del reloj entre fases");
+        valor(sb, "simulador_fase_reloj_promedio_ns", null, sinc.getPromedioRelojNs());
+
+        // ---- procesos ----
+        long suspensiones = plan.getSuspensiones();
+        long reactivaciones = plan.getReactivaciones();
+        contador(sb, "simulador_llegadas_total", "Procesos inyectados por la fuente de carga", plan.getLlegadasInyectadas());
+        contador(sb, "simulador_terminados_total", "Procesos terminados", plan.getCantidadTerminados());
+        contador(sb, "simulador_suspensiones_total", "Procesos suspendidos por falta de memoria", suspensiones);
+        contador(sb, "simulador_reactivaciones_total", "Procesos suspendidos que volvieron a las colas", reactivaciones);
+        metrica(sb, "simulador_suspendidos", "gauge", "Procesos suspendidos ahora");
+        valor(sb, "simulador_suspendidos", null, Math.max(0, suspensiones - reactivaciones));
+
+        // ---- robo de trabajo ----
+        contador(sb, "simulador_robos_intentos_total", "Intentos de robo de CPUs ociosas", plan.getIntentosRobo());
+        contador(sb, "simulador_robos_exitosos_total", "Robos que movieron al menos un proceso", plan.getRobosExitosos());
+        contador(sb, "simulador_procesos_robados_total", "Procesos movidos por robo", plan.getProcesosRobados());
+
+        // ---- CPUs y colas ----
+        metrica(sb, "simulador_cpu_utilizacion", "gauge", "Fracción de ticks con trabajo");
+        for (int i = 0; i < cpus.size(); i++) {
+            Procesador cpu = cpus.get(i);
+            long total = cpu.getTicksTotales();
+            valor(sb, "simulador_cpu_utilizacion", "cpu=\"" + i + "\"",
+                    total == 0 ? 0 : (double) cpu.getTicksEjecutados() / total);
+        }
+        metrica(sb, "simulador_cpu_ticks_ejecutados_total", "counter", "Ticks con trabajo por CPU");
+        for (int i = 0; i < cpus.size(); i++) {
+            valor(sb, "simulador_cpu_ticks_ejecutados_total", "cpu=\"" + i + "\"", cpus.get(i).getTicksEjecutados());
+        }
+        metrica(sb, "simulador_cpu_carga", "gauge", "Procesos en la CPU (en cola y en ejecución)");
+        for (int i = 0; i < cpus.size(); i++) {
+            valor(sb, "simulador_cpu_carga", "cpu=\"" + i + "\"", cpus.get(i).getCarga());
+        }
+        metrica(sb, "simulador_cpu_trabajo_pendiente_ticks", "gauge", "Ticks de CPU que faltan para vaciar la CPU");
+        for (int i = 0; i < cpus.size(); i++) {
+            valor(sb, "simulador_cpu_trabajo_pendiente_ticks", "cpu=\"" + i + "\"", cpus.get(i).getTrabajoPendiente());
+        }
+
+        int[] porNivel = new int[RoundRobin.NIVELES];
+        metrica(sb, "simulador_cola_listos", "gauge", "Procesos listos en las colas de la CPU");
+        for (int i = 0; i < cpus.size(); i++) {
+            int[] colas = MetricasJMX.longitudColas(cpus.get(i).rr, new int[RoundRobin.NIVELES]);
+            int suma = 0;
+            for (int n = 0; n < colas.length; n++) {
+                suma += colas[n];
+                porNivel[n] += colas[n];
+            }
+            valor(sb, "simulador_cola_listos", "cpu=\"" + i + "\"", suma);
+        }
+        metrica(sb, "simulador_cola_listos_por_prioridad", "gauge", "Procesos listos por nivel de prioridad (todas las CPUs, niveles no vacíos)");
+        for (int n = 0; n < porNivel.length; n++) {
+            if (porNivel[n] > 0) valor(sb, "simulador_cola_listos_por_prioridad", "prioridad=\"" + n + "\"", porNivel[n]);
+        }
+
+        // ---- memoria ----
+        AdministradorMemoria mem = plan.getMemManager();
+        metrica(sb, "simulador_memoria_total_kb", "gauge", "Memoria simulada total");
+        valor(sb, "simulador_memoria_total_kb", null, mem.getTamTotalKB());
+        metrica(sb, "simulador_memoria_ocupada_kb", "gauge", "Memoria asignada a procesos");
+        valor(sb, "simulador_memoria_ocupada_kb", null, mem.getOcupadoKBPublicado());
+        metrica(sb, "simulador_memoria_bloques_libres", "gauge", "Cantidad de huecos libres");
+        valor(sb, "simulador_memoria_bloques_libres", null, mem.getCantidadBloquesLibresPublicada());
+        metrica(sb, "simulador_memoria_mayor_bloque_libre_kb", "gauge", "Mayor hueco libre");
+        valor(sb, "simulador_memoria_mayor_bloque_libre_kb", null, mem.getMayorBloqueLibrePublicado());
+        metrica(sb, "simulador_memoria_fragmentacion", "gauge", "Fragmentación externa: 1 - mayor hueco / memoria libre");
+        valor(sb, "simulador_memoria_fragmentacion", null, mem.getFragmentacionExternaPublicada());
+        contador(sb, "simulador_memoria_asignaciones_fallidas_total", "Asignaciones sin hueco suficiente",
+                mem.getAsignacionesFallidasPublicadas());
+
+        // ---- latencias ----
+        MetricasLatencia lat = plan.getLatencias();
+        List<Integer> niveles = lat.getNivelesUsados();
+        MetricasLatencia.Metrica[] metricas = MetricasLatencia.Metrica.values();
+        long[] cuentas = new long[LIMITES.length + 1];
+        for (int m = 0; m < metricas.length; m++) {
+            String nombre = "simulador_latencia_" + NOMBRES_LATENCIA[m] + "_ticks";
+            metrica(sb, nombre, "histogram", "Tiempo de " + NOMBRES_LATENCIA[m]
+                    + " de los procesos terminados, por prioridad (límites 2^k - 1, exactos)");
+            for (int nivel : niveles) {
+                Arrays.fill(cuentas, 0);
+                lat.sumarPorLimites(metricas[m], -1, nivel, LIMITES, cuentas);
+                String etiqueta = "prioridad=\"" + nivel + "\"";
+                long acumulado = 0;
+                for (int k = 0; k < LIMITES.length; k++) {
+                    acumulado += cuentas[k];
+                    valor(sb, nombre + "_bucket", etiqueta + ",le=\"" + LIMITES[k] + "\"", acumulado);
+                }
+                acumulado += cuentas[LIMITES.length];
+                valor(sb, nombre + "_bucket", etiqueta + ",le=\"+Inf\"", acumulado);
+                valor(sb, nombre + "_sum", etiqueta, lat.getSuma(metricas[m], -1, nivel));
+                valor(sb, nombre + "_count", etiqueta, acumulado);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void metrica(StringBuilder sb, String nombre, String tipo, String ayuda) {
+        sb.append("# HELP ").append(nombre).append(' ').append(ayuda).append('\n');
+        sb.append("# TYPE ").append(nombre).append(' ').append(tipo).append('\n');
+    }
+
+    private static void contador(StringBuilder sb, String nombre, String ayuda, long v) {
+        metrica(sb, nombre, "counter", ayuda);
+        valor(sb, nombre, null, v);
+    }
+
+    private static void valor(StringBuilder sb, String nombre, String etiquetas, long v) {
+        serie(sb, nombre, etiquetas).append(v).append('\n');
+    }
+
+    private static void valor(StringBuilder sb, String nombre, String etiquetas, double v) {
+        serie(sb, nombre, etiquetas).append(v).append('\n');
+    }
+
+    private static StringBuilder serie(StringBuilder sb, String nombre, String etiquetas) {
+        sb.append(nombre);
+        if (etiquetas != null) sb.append('{').append(etiquetas).append('}');
+        return sb.append(' ');
+    }
+}
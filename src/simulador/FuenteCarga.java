@@ -0,0 +1,22 @@
+package simulador;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Origen de procesos que el reloj inyecta por su cuenta en su tiempoLlegada
+// (trazas, generadores). Se lee de a un proceso: nunca se carga entera en memoria.
+// Solo la usa el hilo del reloj, así que no necesita ser thread-safe.
+public interface FuenteCarga extends Closeable {
+
+    // Próximo proceso con tiempoLlegada ya fijado, o null si no quedan.
+    // Las llegadas deben venir en orden no decreciente.
+    Proceso siguiente() throws IOException;
+
+    // Abre una traza según su extensión: .csv como texto, cualquier otra como binaria
+    static FuenteCarga abrir(String ruta) throws IOException {
+        if (ruta.toLowerCase().endsWith(".csv")) {
+            return new TrazaCSV(ruta);
+        }
+        return new TrazaBinaria(ruta);
+    }
+}
@@ -0,0 +1,200 @@
+package simulador;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Fuente de carga sintética para llevar al planificador y a la memoria a saturación.
+// Genera 'cantidad' procesos bajo demanda (nada se guarda) con:
+//  - llegadas Poisson o en ráfagas (Poisson modulado por dos estados, alta/baja)
+//  - ráfagas de CPU de cola pesada (Pareto o lognormal)
+//  - tamaños de memoria sacados de un histograma (tamaño -> peso)
+// Con la misma semilla y configuración produce siempre la misma secuencia.
+// Solo la consume el hilo del reloj: usa SplittableRandom y ningún lock.
+public class GeneradorCarga implements FuenteCarga {
+
+    public enum Llegadas {
+        POISSON,
+        RAFAGAS
+    }
+
+    public enum DistribucionRafaga {
+        PARETO,
+        LOGNORMAL
+    }
+
+    private final SplittableRandom rnd;
+    private final long cantidad;
+    private long generados = 0;
+
+    // llegadas (tasas en procesos por tick)
+    private Llegadas llegadas = Llegadas.POISSON;
+    private double tasa = 1.0;
+    private double tasaAlta = 4.0;
+    private double tasaBaja = 0.1;
+    private double duracionAlta = 50;   // ticks medios en cada estado
+    private double duracionBaja = 200;
+    private boolean enAlta = true;
+    private double restanteEstado = -1; // < 0: sortear al generar el primero
+    private double reloj = 0;           // tiempo continuo de la última llegada
+
+    // ráfagas de CPU
+    private DistribucionRafaga distribucion = DistribucionRafaga.PARETO;
+    private double alfa = 1.5;   // Pareto: forma
+    private double minimo = 2;   // Pareto: escala (ráfaga mínima)
+    private double mu = 2.0;     // lognormal: media del logaritmo
+    private double sigma = 1.0;  // lognormal: desvío del logaritmo
+    private int rafagaMaxima = 100_000;
+
+    // memoria: pesos acumulados normalizados a 1
+    private int[] tamanosKB = {64, 128, 256, 512, 1024};
+    private double[] acumulado = acumular(new double[] {30, 30, 20, 15, 5});
+
+    private int prioridadMin = 1;
+    private int prioridadMax = 5;
+    private int siguienteId = 1;
+
+    public GeneradorCarga(long semilla, long cantidad) {
+        this.rnd = new SplittableRandom(semilla);
+        this.cantidad = cantidad;
+    }
+
+    public void setLlegadasPoisson(double tasa) {
+        if (tasa <= 0) throw new IllegalArgumentException("La tasa debe ser positiva.");
+        this.llegadas = Llegadas.POISSON;
+        this.tasa = tasa;
+    }
+
+    // alterna entre tasaAlta y tasaBaja; cada estado dura una exponencial con la media dada
+    public void setLlegadasRafagas(double tasaAlta, double tasaBaja, double duracionAlta, double duracionBaja) {
+        if (tasaAlta <= 0 || tasaBaja < 0 || duracionAlta <= 0 || duracionBaja <= 0) {
+            throw new IllegalArgumentException("Parámetros de ráfagas inválidos.");
+        }
+        this.llegadas = Llegadas.RAFAGAS;
+        this.tasaAlta = tasaAlta;
+        this.tasaBaja = tasaBaja;
+        this.duracionAlta = duracionAlta;
+        this.duracionBaja = duracionBaja;
+    }
+
+    public void setRafagaPareto(double alfa, double minimo) {
+        if (alfa <= 0 || minimo < 1) throw new IllegalArgumentException("Pareto: alfa > 0 y mínimo >= 1.");
+        this.distribucion = DistribucionRafaga.PARETO;
+        this.alfa = alfa;
+        this.minimo = minimo;
+    }
+
+    public void setRafagaLogNormal(double mu, double sigma) {
+        if (sigma < 0) throw new IllegalArgumentException("Lognormal: sigma >= 0.");
+        this.distribucion = DistribucionRafaga.LOGNORMAL;
+        this.mu = mu;
+        this.sigma = sigma;
+    }
+
+    // tope para que la cola pesada no genere ráfagas absurdas
+    public void setRafagaMaxima(int rafagaMaxima) {
+        this.rafagaMaxima = Math.max(1, rafagaMaxima);
+    }
+
+    public void setHistogramaMemoria(int[] tamanosKB, double[] pesos) {
+        if (tamanosKB.length == 0 || tamanosKB.length != pesos.length) {
+            throw new IllegalArgumentException("El histograma necesita un peso por tamaño.");
+        }
+        this.acumulado = acumular(pesos);
+        this.tamanosKB = tamanosKB.clone();
+    }
+
+    public void setPrioridades(int min, int max) {
+        if (max < min) throw new IllegalArgumentException("Rango de prioridades vacío.");
+        this.prioridadMin = min;
+        this.prioridadMax = max;
+    }
+
+    // tick desde el que empiezan las llegadas (p. ej. TiempoGlobal.get() si la simulación ya corre)
+    public void setTiempoInicial(int tick) {
+        this.reloj = tick;
+    }
+
+    public void setPrimerId(int id) {
+        this.siguienteId = id;
+    }
+
+    public long getGenerados() {
+        return generados;
+    }
+
+    @Override
+    public Proceso siguiente() {
+        if (generados >= cantidad) return null;
+        generados++;
+
+        reloj = proximaLlegada();
+        int llegada = reloj >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) reloj;
+        int prioridad = prioridadMin + rnd.nextInt(prioridadMax - prioridadMin + 1);
+        return new Proceso(siguienteId++, prioridad, llegada, sortearRafaga(), sortearMemoria());
+    }
+
+    private double proximaLlegada() {
+        if (llegadas == Llegadas.POISSON) {
+            return reloj + exponencial(tasa);
+        }
+
+        // Poisson modulado: por falta de memoria de la exponencial, al cambiar de
+        // estado se puede volver a sortear el intervalo con la tasa nueva
+        double t = reloj;
+        if (restanteEstado < 0) restanteEstado = exponencial(1 / duracionAlta);
+        while (true) {
+            double tasaActual = enAlta ? tasaAlta : tasaBaja;
+            double gap = tasaActual > 0 ? exponencial(tasaActual) : Double.POSITIVE_INFINITY;
+            if (gap < restanteEstado) {
+                restanteEstado -= gap;
+                return t + gap;
+            }
+            t += restanteEstado;
+            enAlta = !enAlta;
+            restanteEstado = exponencial(1 / (enAlta ? duracionAlta : duracionBaja));
+        }
+    }
+
+    private double exponencial(double tasa) {
+        // 1 - u está en (0, 1]: nunca log(0)
+        return -Math.log(1 - rnd.nextDouble()) / tasa;
+    }
+
+    private int sortearRafaga() {
+        double x;
+        if (distribucion == DistribucionRafaga.PARETO) {
+            x = minimo / Math.pow(1 - rnd.nextDouble(), 1 / alfa);
+        } else {
+            x = Math.exp(mu + sigma * rnd.nextGaussian());
+        }
+        if (x >= rafagaMaxima) return rafagaMaxima;
+        return Math.max(1, (int) Math.round(x));
+    }
+
+    private int sortearMemoria() {
+        int i = Arrays.binarySearch(acumulado, rnd.nextDouble());
+        if (i < 0) i = -i - 1;
+        return tamanosKB[Math.min(i, tamanosKB.length - 1)];
+    }
+
+    private static double[] acumular(double[] pesos) {
+        double total = 0;
+        for (double w : pesos) {
+            if (w < 0) throw new IllegalArgumentException("Los pesos no pueden ser negativos.");
+            total += w;
+        }
+        if (total <= 0) throw new IllegalArgumentException("Algún peso debe ser positivo.");
+
+        double[] acc = new double[pesos.length];
+        double suma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            suma += pesos[i];
+            acc[i] = suma / total;
+        }
+        return acc;
+    }
+
+    @Override
+    public void close() {
+    }
+}
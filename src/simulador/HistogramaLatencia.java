@@ -0,0 +1,99 @@
+package simulador;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histograma de latencias (en ticks) al estilo HDR: buckets exactos hasta 127 y,
+// de ahí en adelante, 64 buckets por cada potencia de 2 (error relativo < 1.6%).
+// Tamaño fijo sin importar cuántos valores se registren.
+// Un único hilo escribe (la CPU dueña); cualquiera puede leer en vivo sin lock:
+// las lecturas concurrentes pueden ir un registro atrasadas, nunca rotas.
+public class HistogramaLatencia {
+
+    private static final int BITS_SUB = 7;
+    private static final int SUB = 1 << BITS_SUB;
+    private static final int MEDIO = SUB / 2;
+    // el mayor int cae en el bucket (31 - BITS_SUB) * MEDIO + SUB - 1
+    static final int BUCKETS = (31 - BITS_SUB) * MEDIO + SUB;
+
+    private final AtomicLongArray cuentas = new AtomicLongArray(BUCKETS);
+    private final AtomicLong cantidad = new AtomicLong();
+    private final AtomicLong suma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    // Solo el hilo dueño. Los valores negativos (tiempo sin definir) se ignoran.
+    public void registrar(int valor) {
+        if (valor < 0) return;
+        int i = indice(valor);
+        // escritor único: lazySet alcanza, no hace falta CAS
+        cuentas.lazySet(i, cuentas.get(i) + 1);
+        suma.lazySet(suma.get() + valor);
+        if (valor > maximo.get()) maximo.lazySet(valor);
+        cantidad.lazySet(cantidad.get() + 1);
+    }
+
+    public long getCantidad() {
+        return cantidad.get();
+    }
+
+    public long getSuma() {
+        return suma.get();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    static int indice(int v) {
+        if (v < SUB) return v;
+        int desplazamiento = (31 - Integer.numberOfLeadingZeros(v)) - (BITS_SUB - 1);
+        return desplazamiento * MEDIO + (v >>> desplazamiento);
+    }
+
+    // mayor valor que cae en el bucket i
+    static long valorMaximoDe(int i) {
+        if (i < SUB) return i;
+        int desplazamiento = i / MEDIO - 1;
+        long sub = i - (long) desplazamiento * MEDIO;
+        return ((sub + 1) << desplazamiento) - 1;
+    }
+
+    // Suma las cuentas en 'destino' agrupadas por límite: cada bucket va al primer
+    // límite (ascendentes) mayor o igual a su valor máximo, o a destino[limites.length]
+    // si no entra en ninguno. Es exacto si ningún bucket cruza un límite: pasa con
+    // límites hasta 127 y con los de la forma 2^k - 1 (bordes de bucket); con otros,
+    // los valores de un bucket que cruza se cuentan en el límite de arriba.
+    public void sumarPorLimites(long[] limites, long[] destino) {
+        int k = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = cuentas.get(i);
+            if (c == 0) continue;
+            long v = valorMaximoDe(i);
+            while (k < limites.length && limites[k] < v) k++;
+            destino[k] += c;
+        }
+    }
+
+    // Percentil (0..100) de la unión de varios histogramas, sin combinarlos en uno nuevo.
+    // Retorna -1 si no hay valores.
+    public static long percentil(List<HistogramaLatencia> histogramas, double p) {
+        long total = 0;
+        long max = 0;
+        for (HistogramaLatencia h : histogramas) {
+            total += h.getCantidad();
+            max = Math.max(max, h.getMaximo());
+        }
+        if (total == 0) return -1;
+
+        long rango = Math.max(1, (long) Math.ceil(p / 100.0 * total));
+        long acumulado = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            for (HistogramaLatencia h : histogramas) {
+                acumulado += h.cuentas.get(i);
+            }
+            if (acumulado >= rango) return Math.min(valorMaximoDe(i), max);
+        }
+        return max;
+    }
+}
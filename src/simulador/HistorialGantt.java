@@ -0,0 +1,239 @@
+package simulador;
+
+import java.util.Arrays;
+
+// Historial del diagrama de Gantt: qué pid ocupó cada CPU en cada tick durante
+// los últimos 'horizonte' ticks. Por CPU hay un anillo de int indexado por tick
+// (sin boxing ni objetos por tick) y encima niveles de resumen con baldes de
+// FACTOR, FACTOR^2, ... ticks que guardan pid mínimo, máximo y mayoritario. Así la
+// GUI puede mostrar toda la corrida leyendo a lo sumo FACTOR baldes por columna,
+// sin importar cuánto historial haya.
+//
+// Cada Cpu la escribe solo su CPU (desde RoundRobin, por tramo ejecutado); la GUI
+// lee sin lock: un balde a medio escribir puede verse mezclado durante un refresco.
+public class HistorialGantt {
+
+    public static final int HORIZONTE_POR_DEFECTO = 1 << 20;
+    public static final int OCIOSO = -1;
+    static final int BITS_FACTOR = 3;
+    static final int FACTOR = 1 << BITS_FACTOR;
+
+    private final Cpu[] cpus;
+    private final int horizonte;
+
+    // horizonte en ticks; se redondea a potencia de dos
+    public HistorialGantt(int cantidadCpus, int horizonte) {
+        int h = Integer.highestOneBit(Math.max(FACTOR, Math.min(horizonte, 1 << 30)));
+        this.horizonte = h < horizonte && h < (1 << 30) ? h << 1 : h;
+        this.cpus = new Cpu[cantidadCpus];
+        for (int i = 0; i < cantidadCpus; i++) {
+            cpus[i] = new Cpu(this.horizonte);
+        }
+    }
+
+    public Cpu getCpu(int i) {
+        return cpus[i];
+    }
+
+    public int getCantidadCpus() {
+        return cpus.length;
+    }
+
+    public int getHorizonte() {
+        return horizonte;
+    }
+
+    public static final class Cpu {
+
+        private final int mascara;
+        private final int[] pids;
+        private final Nivel[] niveles;
+
+        // ticks registrados: [primero, hasta). hasta se publica después de escribir.
+        private volatile long primero = -1;
+        private volatile long hasta = 0;
+
+        Cpu(int horizonte) {
+            this.mascara = horizonte - 1;
+            this.pids = new int[horizonte];
+            int n = 0;
+            for (int bits = BITS_FACTOR; (horizonte >> bits) >= 1 && bits < 31; bits += BITS_FACTOR) n++;
+            this.niveles = new Nivel[n];
+            for (int i = 0; i < n; i++) {
+                niveles[i] = new Nivel((i + 1) * BITS_FACTOR, horizonte);
+            }
+        }
+
+        // Solo la CPU dueña: 'n' ticks seguidos desde 'desde' con el mismo pid (OCIOSO si no hubo trabajo)
+        public void registrar(int desde, int n, int pid) {
+            if (n <= 0) return;
+            long fin = (long) desde + n;
+            long ini = Math.max(desde, fin - pids.length); // lo anterior ya no entra en el anillo
+            for (long t = ini; t < fin; t++) {
+                pids[(int) (t & mascara)] = pid;
+            }
+            for (Nivel nv : niveles) {
+                nv.agregar(ini, fin, pid);
+            }
+            if (primero < 0) primero = desde;
+            if (fin > hasta) hasta = fin;
+        }
+
+        // primer tick que todavía está en el historial
+        public long getDesde() {
+            long p = primero;
+            return p < 0 ? hasta : Math.max(p, hasta - pids.length);
+        }
+
+        // un tick después del último registrado
+        public long getHasta() {
+            return hasta;
+        }
+
+        // pid en un tick (OCIOSO si no está en el historial)
+        public int getPid(long tick) {
+            if (tick < getDesde() || tick >= hasta) return OCIOSO;
+            return pids[(int) (tick & mascara)];
+        }
+
+        // Resume 'columnas' columnas de 'ticksPorColumna' ticks a partir de 'desde'
+        // (mejor si ticksPorColumna es potencia de dos y 'desde' múltiplo de ella).
+        // Por columna: pid mayoritario (puede ser OCIOSO) y menor/mayor pid que corrió
+        // (OCIOSO si la columna estuvo ociosa o fuera del historial). Lee del orden de
+        // FACTOR baldes por nivel y columna.
+        public void resumir(long desde, int ticksPorColumna, int columnas, int[] mayoria, int[] min, int[] max) {
+            int tpc = Math.max(1, ticksPorColumna);
+            long valido0 = getDesde();
+            long valido1 = hasta;
+            // el nivel más grueso cuyos baldes entran en una columna
+            int nivel = -1;
+            for (int i = 0; i < niveles.length; i++) {
+                if ((1L << niveles[i].bits) <= tpc) nivel = i;
+            }
+            Acumulador acc = new Acumulador();
+            for (int c = 0; c < columnas; c++) {
+                long a = Math.max(desde + (long) c * tpc, valido0);
+                long z = Math.min(desde + (long) (c + 1) * tpc, valido1);
+                acc.reiniciar();
+                acumular(nivel, a, z, acc);
+                mayoria[c] = acc.candidato;
+                min[c] = acc.min == Integer.MAX_VALUE ? OCIOSO : acc.min;
+                max[c] = acc.max == Integer.MIN_VALUE ? OCIOSO : acc.max;
+            }
+        }
+
+        // Baldes enteros del nivel dentro de [a, z); las puntas que no llenan un balde
+        // (bordes del historial) se resuelven con el nivel de abajo
+        private void acumular(int nivel, long a, long z, Acumulador acc) {
+            if (a >= z) return;
+            if (nivel < 0) {
+                for (long t = a; t < z; t++) acc.sumar(pids[(int) (t & mascara)], 1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+                return;
+            }
+            int bits = niveles[nivel].bits;
+            long a1 = ((a + (1L << bits) - 1) >> bits) << bits;
+            long z1 = (z >> bits) << bits;
+            if (a1 >= z1) {
+                acumular(nivel - 1, a, z, acc);
+                return;
+            }
+            acumular(nivel - 1, a, a1, acc);
+            niveles[nivel].acumular(a1, z1, acc);
+            acumular(nivel - 1, z1, z, acc);
+        }
+    }
+
+    // Mayoría por votación de Boyer-Moore con pesos (exacta si algún pid tiene más
+    // de la mitad de los ticks) y mínimo/máximo de los pids no ociosos.
+    static final class Acumulador {
+        int candidato;
+        long votos;
+        int min;
+        int max;
+
+        void reiniciar() {
+            candidato = OCIOSO;
+            votos = 0;
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+        }
+
+        void sumar(int pid, long peso, int pidMin, int pidMax) {
+            min = Math.min(min, pidMin);
+            max = Math.max(max, pidMax);
+            if (peso <= 0) return;
+            if (pid == candidato) {
+                votos += peso;
+            } else if (votos >= peso) {
+                votos -= peso;
+            } else {
+                candidato = pid;
+                votos = peso - votos;
+            }
+            if (pid != OCIOSO) {
+                min = Math.min(min, pid);
+                max = Math.max(max, pid);
+            }
+        }
+    }
+
+    // Baldes de 2^bits ticks en un anillo que cubre el mismo horizonte que los pids.
+    // Cada posición guarda el número de balde que contiene: si no coincide, está vacía.
+    private static final class Nivel {
+        final int bits;
+        final int mascara;
+        final long[] balde;
+        final int[] candidato;
+        final long[] votos;
+        final int[] min;
+        final int[] max;
+
+        Nivel(int bits, int horizonte) {
+            this.bits = bits;
+            int n = Math.max(1, horizonte >> bits);
+            this.mascara = n - 1;
+            this.balde = new long[n];
+            this.candidato = new int[n];
+            this.votos = new long[n];
+            this.min = new int[n];
+            this.max = new int[n];
+            Arrays.fill(balde, -1);
+        }
+
+        void agregar(long ini, long fin, int pid) {
+            for (long b = ini >> bits, ultimo = (fin - 1) >> bits; b <= ultimo; b++) {
+                long a = Math.max(ini, b << bits);
+                long z = Math.min(fin, (b + 1) << bits);
+                int i = (int) (b & mascara);
+                if (balde[i] != b) {
+                    candidato[i] = OCIOSO;
+                    votos[i] = 0;
+                    min[i] = Integer.MAX_VALUE;
+                    max[i] = Integer.MIN_VALUE;
+                    balde[i] = b;
+                }
+                long peso = z - a;
+                if (pid == candidato[i]) {
+                    votos[i] += peso;
+                } else if (votos[i] >= peso) {
+                    votos[i] -= peso;
+                } else {
+                    candidato[i] = pid;
+                    votos[i] = peso - votos[i];
+                }
+                if (pid != OCIOSO) {
+                    if (pid < min[i]) min[i] = pid;
+                    if (pid > max[i]) max[i] = pid;
+                }
+            }
+        }
+
+        void acumular(long a, long z, Acumulador acc) {
+            for (long b = a >> bits, ultimo = (z - 1) >> bits; b <= ultimo; b++) {
+                int i = (int) (b & mascara);
+                if (balde[i] != b) continue;
+                acc.sumar(candidato[i], votos[i], min[i], max[i]);
+            }
+        }
+    }
+}
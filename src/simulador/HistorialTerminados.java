@@ -0,0 +1,215 @@
+package simulador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Procesos terminados en una CPU con memoria acotada: los últimos 'capacidad'
+// quedan en un anillo de enteros (lo que muestra la GUI) y los más viejos se
+// juntan en lotes que EscritorHistorial agrega a un archivo temporal en segundo
+// plano. getTodos() lee archivo + lote pendiente + anillo, así que el historial
+// completo sigue disponible para el informe final.
+//
+// Registro de tamaño fijo (7 int, 28 bytes): id, prioridad, llegada, inicio, fin,
+// ráfaga, memKB. El monitor protege anillo y lote (CPU dueña y lectores); el
+// archivo solo lo escribe el hilo del escritor.
+public class HistorialTerminados {
+
+    static final int CAMPOS = 7;
+    static final int BYTES_REGISTRO = CAMPOS * 4;
+    static final int LOTE = 1024; // registros por escritura a disco
+
+    private final int cpu;
+    private final EscritorHistorial escritor;
+
+    private final int capacidad;
+    private final int[] anillo;
+    private int primero = 0;
+    private int cantidad = 0;
+
+    // desalojados del anillo que todavía no se entregaron al escritor
+    private int[] lote = new int[LOTE * CAMPOS];
+    private int enLote = 0;
+
+    // estado del archivo: lo escribe el escritor, lo leen los lectores con el monitor
+    private Path archivo = null;
+    private FileChannel canal = null;
+    private long registrosEnDisco = 0;
+    private int lotesEnVuelo = 0;
+    private long registrosPerdidos = 0;
+
+    public HistorialTerminados(int cpu, int capacidad, EscritorHistorial escritor) {
+        this.cpu = cpu;
+        this.capacidad = Math.max(1, capacidad);
+        this.anillo = new int[this.capacidad * CAMPOS];
+        this.escritor = escritor;
+    }
+
+    // Solo la CPU dueña (desde el listener de fin)
+    public synchronized void agregar(Proceso p) {
+        if (cantidad == capacidad) {
+            // anillo lleno: el más viejo pasa al lote que va a disco
+            System.arraycopy(anillo, primero * CAMPOS, lote, enLote * CAMPOS, CAMPOS);
+            enLote++;
+            primero = (primero + 1) % capacidad;
+            cantidad--;
+            if (enLote == LOTE) {
+                lotesEnVuelo++;
+                escritor.encolar(this, lote, enLote);
+                lote = new int[LOTE * CAMPOS];
+                enLote = 0;
+            }
+        }
+        int base = ((primero + cantidad) % capacidad) * CAMPOS;
+        anillo[base] = p.getId();
+        anillo[base + 1] = p.getPrioridad();
+        anillo[base + 2] = p.getTiempoLlegada();
+        anillo[base + 3] = p.getTiempoInicio();
+        anillo[base + 4] = p.getTiempoFin();
+        anillo[base + 5] = p.getTiempoCPU();
+        anillo[base + 6] = p.getTamMemoriaKB();
+        cantidad++;
+    }
+
+    // Los últimos terminados (a lo sumo 'capacidad'), del más viejo al más nuevo.
+    // Costo constante: no depende del largo de la corrida.
+    public synchronized List<Proceso> getRecientes() {
+        return getRecientes(cantidad);
+    }
+
+    // Los últimos 'max' terminados (o menos), del más viejo al más nuevo
+    public synchronized List<Proceso> getRecientes(int max) {
+        int n = Math.max(0, Math.min(max, cantidad));
+        List<Proceso> r = new ArrayList<>(n);
+        for (int i = cantidad - n; i < cantidad; i++) {
+            r.add(desdeRegistro(anillo, ((primero + i) % capacidad) * CAMPOS));
+        }
+        return r;
+    }
+
+    // Historial completo en orden de terminación. Espera a que el escritor baje los
+    // lotes pendientes y después lee el archivo sin bloquear a la CPU.
+    public List<Proceso> getTodos() {
+        long enDisco;
+        Path ruta;
+        List<Proceso> enMemoria = new ArrayList<>();
+        synchronized (this) {
+            while (lotesEnVuelo > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            enDisco = registrosEnDisco;
+            ruta = archivo;
+            for (int i = 0; i < enLote; i++) {
+                enMemoria.add(desdeRegistro(lote, i * CAMPOS));
+            }
+            agregarDesdeAnillo(enMemoria);
+        }
+
+        List<Proceso> r = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, enDisco + enMemoria.size()));
+        if (enDisco > 0) leerArchivo(ruta, enDisco, r);
+        r.addAll(enMemoria);
+        return r;
+    }
+
+    public synchronized long getCantidadTotal() {
+        return registrosEnDisco + (long) lotesEnVuelo * LOTE + enLote + cantidad;
+    }
+
+    // registros que no se pudieron escribir a disco (error de E/S)
+    public synchronized long getRegistrosPerdidos() {
+        return registrosPerdidos;
+    }
+
+    private void agregarDesdeAnillo(List<Proceso> destino) {
+        for (int i = 0; i < cantidad; i++) {
+            destino.add(desdeRegistro(anillo, ((primero + i) % capacidad) * CAMPOS));
+        }
+    }
+
+    private static Proceso desdeRegistro(int[] d, int base) {
+        Proceso p = new Proceso(d[base], d[base + 1], d[base + 2], d[base + 5], d[base + 6]);
+        p.setTiempoInicio(d[base + 3]);
+        p.setTiempoFin(d[base + 4]);
+        p.consumirCPU(d[base + 5]);
+        p.cambiarEstado(Proceso.Estado.TERMINADO);
+        return p;
+    }
+
+    private void leerArchivo(Path ruta, long registros, List<Proceso> destino) {
+        ByteBuffer buf = ByteBuffer.allocate(LOTE * BYTES_REGISTRO);
+        int[] reg = new int[CAMPOS];
+        try (FileChannel lectura = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            long restantes = registros;
+            while (restantes > 0) {
+                buf.clear();
+                buf.limit((int) Math.min(buf.capacity(), restantes * BYTES_REGISTRO));
+                while (buf.hasRemaining()) {
+                    if (lectura.read(buf) < 0) throw new IOException("Historial truncado: " + ruta);
+                }
+                buf.flip();
+                while (buf.remaining() >= BYTES_REGISTRO) {
+                    for (int i = 0; i < CAMPOS; i++) reg[i] = buf.getInt();
+                    destino.add(desdeRegistro(reg, 0));
+                    restantes--;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("CPU " + cpu + ": no se pudo leer el historial de terminados: " + e.getMessage());
+        }
+    }
+
+    // ---- solo el hilo de EscritorHistorial ----
+
+    void escribir(int[] datos, int registros, ByteBuffer buf) {
+        boolean ok = true;
+        try {
+            if (canal == null) {
+                // primera escritura, o reapertura tras cerrarArchivo: se sigue agregando al mismo archivo
+                Path ruta;
+                synchronized (this) {
+                    ruta = archivo;
+                }
+                if (ruta == null) {
+                    ruta = Files.createTempFile("terminados-cpu" + cpu + "-", ".bin");
+                    ruta.toFile().deleteOnExit();
+                }
+                canal = FileChannel.open(ruta, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                synchronized (this) {
+                    archivo = ruta;
+                }
+            }
+            buf.clear();
+            for (int i = 0; i < registros * CAMPOS; i++) buf.putInt(datos[i]);
+            buf.flip();
+            while (buf.hasRemaining()) canal.write(buf);
+        } catch (IOException e) {
+            ok = false;
+            System.err.println("CPU " + cpu + ": error escribiendo historial de terminados: " + e.getMessage());
+        }
+        synchronized (this) {
+            if (ok) registrosEnDisco += registros;
+            else registrosPerdidos += registros;
+            lotesEnVuelo--;
+            notifyAll();
+        }
+    }
+
+    void cerrarArchivo() {
+        if (canal == null) return;
+        try {
+            canal.close();
+        } catch (IOException ignored) {
+        }
+        canal = null;
+    }
+}
@@ -0,0 +1,106 @@
+package simulador;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Procesos suspendidos por falta de memoria, indexados por tamaño pedido.
+// Cada tamaño guarda su cola en orden de suspensión, así que para saber quién
+// entra en el mayor hueco libre solo se miran los tamaños que caben.
+// Guarda filas de la TablaProcesos (no objetos Proceso), como las colas de las CPUs.
+// No es thread-safe: el planificador lo usa con su monitor tomado.
+public class IndiceSuspendidos {
+
+    public enum Admision {
+        FIFO,          // el suspendido más antiguo que quepa (comportamiento original)
+        MEJOR_EMPAQUE  // el más grande que quepa (llena mejor los huecos)
+    }
+
+    // cola circular de filas de un mismo tamaño, con su número de orden de suspensión
+    private static final class Cola {
+        int[] filas = new int[4];
+        long[] orden = new long[4];
+        int cabeza = 0;
+        int tamano = 0;
+
+        void agregar(int fila, long n) {
+            if (tamano == filas.length) crecer();
+            int i = (cabeza + tamano) & (filas.length - 1);
+            filas[i] = fila;
+            orden[i] = n;
+            tamano++;
+        }
+
+        void quitarCabeza() {
+            cabeza = (cabeza + 1) & (filas.length - 1);
+            tamano--;
+        }
+
+        int get(int k) {
+            return filas[(cabeza + k) & (filas.length - 1)];
+        }
+
+        private void crecer() {
+            int[] f = new int[filas.length * 2];
+            long[] o = new long[filas.length * 2];
+            for (int k = 0; k < tamano; k++) {
+                int i = (cabeza + k) & (filas.length - 1);
+                f[k] = filas[i];
+                o[k] = orden[i];
+            }
+            filas = f;
+            orden = o;
+            cabeza = 0;
+        }
+    }
+
+    // clave: tamaño en KB → suspendidos de ese tamaño en orden de llegada
+    private final TreeMap<Integer, Cola> porTamano = new TreeMap<>();
+    private long siguienteOrden = 0;
+    private int cantidad = 0;
+
+    public void agregar(int fila, int tamKB) {
+        porTamano.computeIfAbsent(tamKB, k -> new Cola()).agregar(fila, siguienteOrden++);
+        cantidad++;
+    }
+
+    // Fila del próximo candidato que cabe en un hueco de mayorLibreKB según la
+    // política (sin sacarlo), o TablaProcesos.NINGUNA si ninguno cabe.
+    public int verCandidato(int mayorLibreKB, Admision admision) {
+        if (admision == Admision.MEJOR_EMPAQUE) {
+            Map.Entry<Integer, Cola> e = porTamano.floorEntry(mayorLibreKB);
+            return e == null ? TablaProcesos.NINGUNA : e.getValue().filas[e.getValue().cabeza];
+        }
+
+        // FIFO: el de menor orden entre las cabezas de los tamaños que caben
+        Cola mejor = null;
+        for (Cola cola : porTamano.headMap(mayorLibreKB, true).values()) {
+            if (mejor == null || cola.orden[cola.cabeza] < mejor.orden[mejor.cabeza]) mejor = cola;
+        }
+        return mejor == null ? TablaProcesos.NINGUNA : mejor.filas[mejor.cabeza];
+    }
+
+    // Quita un candidato devuelto por verCandidato (siempre es la cabeza de su tamaño)
+    public void quitarCandidato(int tamKB) {
+        Cola cola = porTamano.get(tamKB);
+        cola.quitarCabeza();
+        if (cola.tamano == 0) porTamano.remove(tamKB);
+        cantidad--;
+    }
+
+    public boolean estaVacio() {
+        return cantidad == 0;
+    }
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    // filas suspendidas, por tamaño y en orden de suspensión dentro de cada uno
+    public ListaEnteros getFilas() {
+        ListaEnteros r = new ListaEnteros(cantidad);
+        for (Cola cola : porTamano.values()) {
+            for (int k = 0; k < cola.tamano; k++) r.agregar(cola.get(k));
+        }
+        return r;
+    }
+}
@@ -0,0 +1,232 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// Foto inmutable del sistema al final de un tick: CPUs, colas, suspendidos, mapa
+// de memoria y contadores. La arma el hilo del reloj con las CPUs detenidas en la
+// barrera, así que todo lo que contiene es coherente entre sí, y la publica en un
+// campo volatile: la GUI y los exportadores la leen con una sola lectura y sin
+// tomar ningún lock del planificador.
+//
+// Los procesos y bloques que contiene son copias sueltas que solo referencia esta
+// foto (no vistas de la tabla): no deben modificarse.
+public final class InstantaneaSistema {
+
+    public static final class Cpu {
+        private final int id;
+        private final Proceso actual;
+        private final int ticksEnQuantum;
+        private final long ticksEjecutados;
+        private final long ticksTotales;
+        private final int carga;
+        private final long trabajoPendiente;
+        private final Map<Integer, List<Proceso>> colas;
+
+        Cpu(int id, Proceso actual, int ticksEnQuantum, long ticksEjecutados, long ticksTotales,
+            int carga, long trabajoPendiente, Map<Integer, List<Proceso>> colas) {
+            this.id = id;
+            this.actual = actual;
+            this.ticksEnQuantum = ticksEnQuantum;
+            this.ticksEjecutados = ticksEjecutados;
+            this.ticksTotales = ticksTotales;
+            this.carga = carga;
+            this.trabajoPendiente = trabajoPendiente;
+            this.colas = colas;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        // proceso en ejecución (null si está ociosa)
+        public Proceso getActual() {
+            return actual;
+        }
+
+        public int getPidActual() {
+            return actual == null ? -1 : actual.getId();
+        }
+
+        public int getTicksEnQuantum() {
+            return ticksEnQuantum;
+        }
+
+        public long getTicksEjecutados() {
+            return ticksEjecutados;
+        }
+
+        public long getTicksTotales() {
+            return ticksTotales;
+        }
+
+        public double getUtilizacion() {
+            return ticksTotales == 0 ? 0 : (double) ticksEjecutados / ticksTotales;
+        }
+
+        public int getCarga() {
+            return carga;
+        }
+
+        public long getTrabajoPendiente() {
+            return trabajoPendiente;
+        }
+
+        // nivel de prioridad -> procesos listos, solo niveles no vacíos (no modificable)
+        public Map<Integer, List<Proceso>> getColas() {
+            return colas;
+        }
+    }
+
+    private final long epoca;
+    private final int tick;
+    private final long nanos;
+    private final List<Cpu> cpus;
+    private final List<Proceso> suspendidos;
+    private final List<Proceso> terminadosRecientes;
+    private final List<AdministradorMemoria.Bloque> bloques;
+    private final int memoriaTotalKB;
+    private final int memoriaOcupadaKB;
+    private final int mayorBloqueLibre;
+    private final int bloquesLibres;
+    private final long llegadas;
+    private final long terminados;
+    private final long intentosRobo;
+    private final long robosExitosos;
+    private final long procesosRobados;
+    private final RegistroCambios registroCambios;
+    private final long secuenciaCambios;
+    // pid -> posición en porPid (activos, suspendidos y terminados recientes)
+    private final MapaEnteros indicePorPid;
+    private final Proceso[] porPid;
+
+    InstantaneaSistema(long epoca, int tick, List<Cpu> cpus, List<Proceso> suspendidos,
+                       List<Proceso> terminadosRecientes, List<AdministradorMemoria.Bloque> bloques,
+                       int memoriaTotalKB, int memoriaOcupadaKB, int mayorBloqueLibre, int bloquesLibres,
+                       long llegadas, long terminados, long intentosRobo, long robosExitosos, long procesosRobados,
+                       RegistroCambios registroCambios, long secuenciaCambios) {
+        this.epoca = epoca;
+        this.tick = tick;
+        this.nanos = System.nanoTime();
+        this.cpus = Collections.unmodifiableList(cpus);
+        this.suspendidos = Collections.unmodifiableList(suspendidos);
+        this.terminadosRecientes = Collections.unmodifiableList(terminadosRecientes);
+        this.bloques = Collections.unmodifiableList(bloques);
+        this.memoriaTotalKB = memoriaTotalKB;
+        this.memoriaOcupadaKB = memoriaOcupadaKB;
+        this.mayorBloqueLibre = mayorBloqueLibre;
+        this.bloquesLibres = bloquesLibres;
+        this.llegadas = llegadas;
+        this.terminados = terminados;
+        this.intentosRobo = intentosRobo;
+        this.robosExitosos = robosExitosos;
+        this.procesosRobados = procesosRobados;
+        this.registroCambios = registroCambios;
+        this.secuenciaCambios = secuenciaCambios;
+
+        List<Proceso> todos = getProcesosActivos();
+        todos.addAll(terminadosRecientes);
+        this.porPid = todos.toArray(new Proceso[0]);
+        this.indicePorPid = new MapaEnteros(porPid.length);
+        for (int i = 0; i < porPid.length; i++) indicePorPid.put(porPid[i].getId(), i);
+    }
+
+    // crece en 1 con cada foto publicada: igual época = nada cambió
+    public long getEpoca() {
+        return epoca;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    // System.nanoTime() al armarla
+    public long getNanos() {
+        return nanos;
+    }
+
+    public List<Cpu> getCpus() {
+        return cpus;
+    }
+
+    public List<Proceso> getSuspendidos() {
+        return suspendidos;
+    }
+
+    // los últimos terminados de cada CPU (a lo sumo PlanificadorMultiprocesador.TERMINADOS_EN_INSTANTANEA)
+    public List<Proceso> getTerminadosRecientes() {
+        return terminadosRecientes;
+    }
+
+    // Procesos en ejecución, en cola y suspendidos (lista nueva en cada llamada)
+    public List<Proceso> getProcesosActivos() {
+        List<Proceso> r = new ArrayList<>();
+        for (Cpu c : cpus) {
+            if (c.actual != null) r.add(c.actual);
+            for (List<Proceso> q : c.colas.values()) r.addAll(q);
+        }
+        r.addAll(suspendidos);
+        return r;
+    }
+
+    // Proceso con ese pid en la foto (activo, suspendido o terminado reciente), o null
+    public Proceso getProceso(int pid) {
+        int i = indicePorPid.get(pid);
+        return i == MapaEnteros.AUSENTE ? null : porPid[i];
+    }
+
+    // Hasta dónde llega el RegistroCambios en esta foto (-1 = no se anotaban cambios)
+    public long getSecuenciaCambios() {
+        return secuenciaCambios;
+    }
+
+    // Agrega a 'destino' los pids que cambiaron entre la foto con secuencia 'desde' y
+    // esta. false si no se puede saber (hay que mirar todos los procesos).
+    public boolean copiarCambiosDesde(long desde, ListaEnteros destino) {
+        if (desde < 0 || secuenciaCambios < desde || registroCambios == null) return false;
+        return registroCambios.copiar(desde, secuenciaCambios, destino);
+    }
+
+    // bloques en orden de dirección
+    public List<AdministradorMemoria.Bloque> getBloques() {
+        return bloques;
+    }
+
+    public int getMemoriaTotalKB() {
+        return memoriaTotalKB;
+    }
+
+    public int getMemoriaOcupadaKB() {
+        return memoriaOcupadaKB;
+    }
+
+    public int getMayorBloqueLibre() {
+        return mayorBloqueLibre;
+    }
+
+    public int getBloquesLibres() {
+        return bloquesLibres;
+    }
+
+    public long getLlegadas() {
+        return llegadas;
+    }
+
+    public long getTerminados() {
+        return terminados;
+    }
+
+    public long getIntentosRobo() {
+        return intentosRobo;
+    }
+
+    public long getRobosExitosos() {
+        return robosExitosos;
+    }
+
+    public long getProcesosRobados() {
+        return procesosRobados;
+    }
+}
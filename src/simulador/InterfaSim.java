@@ -1,7 +1,8 @@
+package simulador;
+
 import javax.swing.*;
 import javax.swing.Timer;
 import javax.swing.border.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.util.*;
@@ -22,7 +23,10 @@ public class InterfaSim extends JFrame {
     private final JTextArea areaColas = new JTextArea();
     private final JTextArea areaMemoria = new JTextArea();
 
-    private final DefaultTableModel modeloTablaProcesos;
+    private final ModeloTablaProcesos modeloTablaProcesos = new ModeloTablaProcesos();
+    // secuencia de cambios de la última foto aplicada a la tabla (-1 = ninguna)
+    private long secuenciaTabla = -1;
+    private final ListaEnteros cambiosTabla = new ListaEnteros();
     private final JTable tablaProcesos;
 
     private final JTextField txtPrioridad = new JTextField();
@@ -33,11 +37,9 @@ public class InterfaSim extends JFrame {
 
     private final JButton btnPauseResume = new JButton("Pausar");
 
-    private int autoID = 1;
     private final Random rnd = new Random();
 
-    private final int GANTT_WIDTH = 140;
-    private final List<Deque<Integer>> ganttHistory = new ArrayList<>();
+    private final int GANTT_WIDTH = 140; // columnas del Gantt
 
     private final CpuUsagePanel cpuUsagePanel;
     private final RamPanel ramPanel;
@@ -51,8 +53,13 @@ public class InterfaSim extends JFrame {
 
     private final List<JLabel> statsLabels;
 
+    // última foto dibujada (la lee también RamPanel al pintar)
+    private InstantaneaSistema instantanea;
+    private long ultimaEpoca = -1;
+
     public InterfaSim(PlanificadorMultiprocesador plan) {
         this.plan = plan;
+        this.instantanea = plan.getInstantanea();
 
         setTitle("Simulador - Visor de procesos (Dark)");
         setSize(1200, 800);
@@ -141,11 +148,6 @@ public class InterfaSim extends JFrame {
 
         left.add(texts, BorderLayout.CENTER);
 
-        String[] cols = {"ID", "Prio", "Llegada", "Inicio", "CPU Rest", "Espera", "Resp", "Retorno", "Estado", "MemKB"};
-        modeloTablaProcesos = new DefaultTableModel(cols, 0) {
-            @Override public boolean isCellEditable(int r, int c) { return false; }
-        };
-
         tablaProcesos = new JTable(modeloTablaProcesos);
         JScrollPane spTab = new JScrollPane(tablaProcesos);
         spTab.setBorder(new TitledBorder("Procesos"));
@@ -155,13 +157,6 @@ public class InterfaSim extends JFrame {
         right.setBackground(panelBg);
         right.setBorder(new CompoundBorder(new EmptyBorder(8, 8, 8, 8), new LineBorder(new Color(60, 60, 60))));
 
-        int cpusCount = Math.max(1, plan.getCpus().size());
-        for (int i = 0; i < cpusCount; i++) {
-            Deque<Integer> dq = new ArrayDeque<>(GANTT_WIDTH);
-            for (int j = 0; j < GANTT_WIDTH; j++) dq.addLast(-1);
-            ganttHistory.add(dq);
-        }
-
         cpuUsagePanel = new CpuUsagePanel();
         cpuUsagePanel.setPreferredSize(new Dimension(380, 120));
         cpuUsagePanel.setBorder(new TitledBorder("Uso CPU"));
@@ -302,127 +297,99 @@ public class InterfaSim extends JFrame {
     }
 
     private void crearProceso(int prioridad, int tiempoCPU, int mem) {
-        int id = autoID++;
+        int id = plan.nuevoPid(); // no choca con los pids de una traza en curso
         int llegada = TiempoGlobal.get();
         Proceso p = new Proceso(id, prioridad, llegada, tiempoCPU, mem);
         plan.agregarProceso(p);
     }
 
+    // Todo sale de la última foto publicada por el reloj: una lectura volatile y
+    // ningún lock del planificador. Si la época no cambió no hay nada que redibujar.
     private void refrescar() {
-        int tg = TiempoGlobal.get();
-        lblTiempo.setText("TiempoGlobal: " + tg);
+        InstantaneaSistema s = plan.getInstantanea();
+        if (s.getEpoca() == ultimaEpoca) return;
+        ultimaEpoca = s.getEpoca();
+        instantanea = s;
+
+        lblTiempo.setText("TiempoGlobal: " + s.getTick());
 
-        actualizarTablaProcesos();
-        cpuUsagePanel.updateData(plan.getCpus());
-        actualizarGanttHistory();
-        actualizarStats();
+        actualizarTablaProcesos(s);
+        cpuUsagePanel.updateData(s);
+        actualizarStats(s);
 
-        areaCPUs.setText(textCPUs());
-        areaColas.setText(textColas());
-        areaMemoria.setText(textMemoria());
+        areaCPUs.setText(textCPUs(s));
+        areaColas.setText(textColas(s));
+        areaMemoria.setText(textMemoria(s));
 
         cpuUsagePanel.repaint();
         ramPanel.repaint();
         ganttPanel.repaint();
     }
 
-    private String textCPUs() {
+    private String textCPUs(InstantaneaSistema s) {
         StringBuilder sb = new StringBuilder();
-        int i = 0;
-        for (Procesador pr : plan.getCpus()) {
-            Proceso cur = pr.getProcesoActual();
-            sb.append("CPU ").append(i++).append(": ");
+        for (InstantaneaSistema.Cpu c : s.getCpus()) {
+            Proceso cur = c.getActual();
+            sb.append("CPU ").append(c.getId()).append(": ");
             sb.append(cur == null ? "IDLE" : cur.toString());
             sb.append('\n');
         }
         return sb.toString();
     }
 
-    private String textColas() {
+    private String textColas(InstantaneaSistema s) {
         StringBuilder sb = new StringBuilder();
-        int i = 0;
-        for (Procesador pr : plan.getCpus()) {
-            sb.append("CPU ").append(i++).append(":\n");
-            Map<Integer,List<Proceso>> snap = pr.getColasSnapshot();
-            for (var e : snap.entrySet()) {
+        for (InstantaneaSistema.Cpu c : s.getCpus()) {
+            sb.append("CPU ").append(c.getId()).append(":\n");
+            for (var e : c.getColas().entrySet()) {
                 sb.append("  Prio ").append(e.getKey()).append(": ").append(e.getValue()).append("\n");
             }
         }
         return sb.toString();
     }
 
-    private String textMemoria() {
+    private String textMemoria(InstantaneaSistema s) {
         StringBuilder sb = new StringBuilder();
-        var blks = plan.getMemManager().getSnapshot();
-        sb.append("Total: ").append(plan.getMemManager().getTamTotalKB())
-                .append("  Usada: ").append(plan.getMemManager().getOcupadoKB()).append("\n");
-        for (var b : blks) sb.append(b).append("\n");
+        sb.append("Total: ").append(s.getMemoriaTotalKB())
+                .append("  Usada: ").append(s.getMemoriaOcupadaKB()).append("\n");
+        for (var b : s.getBloques()) sb.append(b).append("\n");
         return sb.toString();
     }
 
-    private void actualizarTablaProcesos() {
-        modeloTablaProcesos.setRowCount(0);
-        List<Proceso> todos = new ArrayList<>(plan.getProcesosActivos());
-        for (Proceso t : plan.getTodosTerminados())
-            if (!todos.contains(t)) todos.add(t);
-
-        for (Proceso p : todos) {
-            String estado;
-            if (plan.getTodosTerminados().contains(p)) estado = "Terminado";
-            else if (p.getEstado() == Proceso.Estado.SUSPENDIDO) estado = "Suspendido";
-            else if (estaEnCPU(p)) estado = "Ejecutando";
-            else estado = "Listo";
-
-            modeloTablaProcesos.addRow(new Object[]{
-                    p.getId(),
-                    p.getPrioridad(),
-                    p.getTiempoLlegada(),
-                    p.getTiempoInicio() < 0 ? "-" : p.getTiempoInicio(),
-                    p.getTiempoRestante(),
-                    p.getTiempoEspera(),
-                    p.getTiempoRespuesta() < 0 ? "-" : p.getTiempoRespuesta(),
-                    p.getTiempoRetorno() < 0 ? "-" : p.getTiempoRetorno(),
-                    estado,
-                    p.getTamMemoriaKB()
-            });
+    // El modelo compara contra el refresco anterior y solo avisa las filas que cambiaron
+    private void actualizarTablaProcesos(InstantaneaSistema s) {
+        int[] enCpu = new int[s.getCpus().size()];
+        int n = 0;
+        for (InstantaneaSistema.Cpu c : s.getCpus()) {
+            if (c.getActual() != null) enCpu[n++] = c.getPidActual();
         }
-    }
-
-    private boolean estaEnCPU(Proceso p) {
-        for (Procesador cpu : plan.getCpus())
-            if (cpu.getProcesoActual() == p) return true;
-        return false;
-    }
-
-    private void actualizarStats() {
-        List<Proceso> activos = plan.getProcesosActivos();
-        int terminados = plan.getTodosTerminados().size();
-        int suspendidos = 0;
-        for (Proceso p : activos) if (p.getEstado() == Proceso.Estado.SUSPENDIDO) suspendidos++;
-
-        statsLabels.get(0).setText("Activos: " + activos.size());
-        statsLabels.get(1).setText("Suspendidos: " + suspendidos);
-        statsLabels.get(2).setText("Terminados: " + terminados);
-        statsLabels.get(3).setText("Mem total: " + plan.getMemManager().getTamTotalKB());
-        statsLabels.get(4).setText("Mem usada: " + plan.getMemManager().getOcupadoKB());
-        statsLabels.get(5).setText("CPUs: " + plan.getCpus().size());
-    }
-
-    private void actualizarGanttHistory() {
-        List<Procesador> cpus = plan.getCpus();
-        while (ganttHistory.size() < cpus.size()) {
-            Deque<Integer> dq = new ArrayDeque<>();
-            for (int i = 0; i < GANTT_WIDTH; i++) dq.add(-1);
-            ganttHistory.add(dq);
+        enCpu = Arrays.copyOf(enCpu, n);
+        Arrays.sort(enCpu);
+
+        // solo los pids que cambiaron desde la última foto aplicada, si se sabe cuáles
+        cambiosTabla.limpiar();
+        if (s.copiarCambiosDesde(secuenciaTabla, cambiosTabla)) {
+            int maxTerminados = s.getCpus().size() * PlanificadorMultiprocesador.TERMINADOS_EN_INSTANTANEA;
+            modeloTablaProcesos.aplicarCambios(cambiosTabla, s::getProceso, enCpu, maxTerminados);
+        } else {
+            List<Proceso> todos = s.getProcesosActivos();
+            // solo los terminados recientes: el historial completo puede estar en disco
+            todos.addAll(s.getTerminadosRecientes());
+            modeloTablaProcesos.actualizar(todos, enCpu);
         }
+        secuenciaTabla = s.getSecuenciaCambios();
+    }
 
-        for (int i = 0; i < cpus.size(); i++) {
-            Deque<Integer> dq = ganttHistory.get(i);
-            if (dq.size() >= GANTT_WIDTH) dq.removeFirst();
+    private void actualizarStats(InstantaneaSistema s) {
+        int activos = s.getSuspendidos().size();
+        for (InstantaneaSistema.Cpu c : s.getCpus()) activos += c.getCarga();
 
-            Proceso cur = cpus.get(i).getProcesoActual();
-            dq.addLast(cur == null ? -1 : cur.getId());
-        }
+        statsLabels.get(0).setText("Activos: " + activos);
+        statsLabels.get(1).setText("Suspendidos: " + s.getSuspendidos().size());
+        statsLabels.get(2).setText("Terminados: " + s.getTerminados());
+        statsLabels.get(3).setText("Mem total: " + s.getMemoriaTotalKB());
+        statsLabels.get(4).setText("Mem usada: " + s.getMemoriaOcupadaKB());
+        statsLabels.get(5).setText("CPUs: " + s.getCpus().size());
     }
 
     private class CpuUsagePanel extends JPanel {
@@ -433,12 +400,10 @@ public class InterfaSim extends JFrame {
             setForeground(text);
         }
 
-        public void updateData(List<Procesador> cpus) {
+        public void updateData(InstantaneaSistema s) {
             util.clear();
-            for (Procesador p : cpus) {
-                long e = p.getTicksEjecutados();
-                long t = p.getTicksTotales();
-                util.add(t == 0 ? 0.0 : (double) e / t);
+            for (InstantaneaSistema.Cpu c : s.getCpus()) {
+                util.add(c.getUtilizacion());
             }
         }
 
@@ -469,11 +434,28 @@ public class InterfaSim extends JFrame {
         }
     }
 
+    // Gantt leído de HistorialGantt: GANTT_WIDTH columnas que terminan en el tick de
+    // la foto. Con la rueda se aleja/acerca (ticks por columna en potencias de dos,
+    // hasta cubrir todo el historial); cada columna muestra el pid mayoritario y, si
+    // corrió más de uno, franjas con el menor (arriba) y el mayor (abajo). El costo
+    // de pintar depende de las columnas, no del largo del historial.
     private class GanttPanel extends JPanel {
 
+        private int ticksPorColumna = 1;
+        private final int[] mayoria = new int[GANTT_WIDTH];
+        private final int[] minimo = new int[GANTT_WIDTH];
+        private final int[] maximo = new int[GANTT_WIDTH];
+
         public GanttPanel() {
             setBackground(panelBg);
             setForeground(text);
+            addMouseWheelListener(e -> {
+                HistorialGantt hist = plan.getHistorialGantt();
+                int limite = hist == null ? 1 : Math.max(1, hist.getHorizonte() / GANTT_WIDTH);
+                if (e.getWheelRotation() > 0) ticksPorColumna = Math.min(limite, ticksPorColumna * 2);
+                else if (e.getWheelRotation() < 0) ticksPorColumna = Math.max(1, ticksPorColumna / 2);
+                repaint();
+            });
         }
 
         @Override
@@ -484,25 +466,47 @@ public class InterfaSim extends JFrame {
             
             int w = getWidth(), h = getHeight();
 
-            int rows = ganttHistory.size();
-            int rowH = rows == 0 ? h : (h / rows);
+            HistorialGantt hist = plan.getHistorialGantt();
+            if (hist == null) {
+                g2d.setColor(muted);
+                g2d.drawString("Sin historial (setHorizonteGantt)", 10, 20);
+                return;
+            }
+
+            // ventana alineada a ticksPorColumna que termina en el tick de la foto
+            int tpc = ticksPorColumna;
+            long fin = ((long) instantanea.getTick() / tpc + 1) * tpc;
+            long desde = fin - (long) GANTT_WIDTH * tpc;
 
-            for (int r = 0; r < rows; r++) {
-                Deque<Integer> dq = ganttHistory.get(r);
+            int rows = hist.getCantidadCpus();
+            int top = 16;
+            int rowH = rows == 0 ? h : ((h - top) / rows);
+            int cellW = Math.max(2, (w - 20) / GANTT_WIDTH);
+            int x = 10;
 
-                int x = 10;
-                int cellW = Math.max(2, (w - 20) / GANTT_WIDTH);
+            for (int r = 0; r < rows; r++) {
+                hist.getCpu(r).resumir(desde, tpc, GANTT_WIDTH, mayoria, minimo, maximo);
+                int y = top + r * rowH + 5;
+                int alto = rowH - 10;
 
-                int idx = 0;
-                for (int pid : dq) {
+                for (int c = 0; c < GANTT_WIDTH; c++) {
+                    int pid = mayoria[c];
                     g2d.setColor(pid == -1 ? new Color(70, 70, 70) : colorFromId(pid));
-                    g2d.fillRect(x + idx * cellW, r * rowH + 5, cellW, rowH - 10);
-                    idx++;
+                    g2d.fillRect(x + c * cellW, y, cellW, alto);
+                    if (minimo[c] != maximo[c] && alto > 8) {
+                        g2d.setColor(colorFromId(minimo[c]));
+                        g2d.fillRect(x + c * cellW, y, cellW, 3);
+                        g2d.setColor(colorFromId(maximo[c]));
+                        g2d.fillRect(x + c * cellW, y + alto - 3, cellW, 3);
+                    }
                 }
 
                 g2d.setColor(text);
-                g2d.drawString("CPU " + r, 10, (r + 1) * rowH - 4);
+                g2d.drawString("CPU " + r, 10, top + (r + 1) * rowH - 4);
             }
+
+            g2d.setColor(muted);
+            g2d.drawString("ticks " + Math.max(0, desde) + ".." + (fin - 1) + "  (" + tpc + " por columna, rueda = zoom)", 10, 12);
         }
 
         private Color colorFromId(int id) {
@@ -535,8 +539,9 @@ public class InterfaSim extends JFrame {
             int x0 = 10;
             int y0 = 20;
 
-            var bloques = plan.getMemManager().getSnapshot();
-            int total = plan.getMemManager().getTamTotalKB();
+            InstantaneaSistema s = instantanea;
+            var bloques = s.getBloques();
+            int total = s.getMemoriaTotalKB();
             if (total <= 0) total = 1;
 
             int cursorX = x0;
@@ -572,8 +577,7 @@ public class InterfaSim extends JFrame {
             }
 
             g2d.setColor(text);
-            int usado = plan.getMemManager().getOcupadoKB();
-            g2d.drawString("Usado: " + usado + " / " + plan.getMemManager().getTamTotalKB() + " KB", x0, y0 + h + 18);
+            g2d.drawString("Usado: " + s.getMemoriaOcupadaKB() + " / " + s.getMemoriaTotalKB() + " KB", x0, y0 + h + 18);
 
             int leyX = x0;
             int leyY = y0 + h + 32;
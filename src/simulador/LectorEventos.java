@@ -0,0 +1,164 @@
+package simulador;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Lee los registros que escribe RegistroEventos.
+//
+//   java -cp simulador.jar simulador.LectorEventos eventos.bin [-resumen] [-pid N] [-tipo TIPO]
+//
+// Sin -resumen imprime un evento por línea (tick, cpu, pid, tipo, argumento);
+// con -resumen cuenta los eventos por tipo y por CPU. -pid y -tipo filtran.
+public class LectorEventos {
+
+    public interface Visitante {
+        void evento(int tick, int cpu, int pid, RegistroEventos.Tipo tipo, int argumento);
+    }
+
+    // Recorre el archivo en orden de escritura. Si la cabecera tiene la cantidad,
+    // recorre esa cantidad de registros y saltea los que quedaron sin tipo (lugares
+    // reservados que no se llegaron a escribir); si no (el simulador no llegó a
+    // cerrarlo), lee hasta el primer registro sin tipo.
+    // Retorna la cantidad de eventos leídos.
+    public static long leer(Path ruta, Visitante v) throws IOException {
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            ByteBuffer cab = ByteBuffer.allocate(RegistroEventos.CABECERA);
+            while (cab.hasRemaining()) {
+                if (canal.read(cab) < 0) throw new IOException("Archivo de eventos truncado: " + ruta);
+            }
+            cab.flip();
+            if (cab.getInt(0) != RegistroEventos.MAGIA) throw new IOException("No es un registro de eventos: " + ruta);
+            if (cab.getInt(4) != RegistroEventos.VERSION) throw new IOException("Versión no soportada: " + cab.getInt(4));
+            int tam = cab.getInt(8);
+            long declarados = cab.getLong(16);
+            long limite = declarados > 0 ? declarados : (canal.size() - RegistroEventos.CABECERA) / tam;
+
+            ByteBuffer buf = ByteBuffer.allocate(tam * 4096);
+            long recorridos = 0;
+            long leidos = 0;
+            while (recorridos < limite) {
+                buf.clear();
+                buf.limit((int) Math.min(buf.capacity(), (limite - recorridos) * tam));
+                while (buf.hasRemaining()) {
+                    if (canal.read(buf) < 0) break;
+                }
+                buf.flip();
+                if (buf.remaining() < tam) break;
+                for (int i = 0; i + tam <= buf.limit(); i += tam) {
+                    recorridos++;
+                    RegistroEventos.Tipo tipo = RegistroEventos.Tipo.desdeCodigo(buf.get(i + 14));
+                    if (tipo == null) {
+                        if (declarados > 0) continue; // reservado y no escrito
+                        return leidos;                // fin de lo escrito
+                    }
+                    v.evento(buf.getInt(i), buf.getShort(i + 12), buf.getInt(i + 4), tipo, buf.getInt(i + 8));
+                    leidos++;
+                }
+            }
+            return leidos;
+        }
+    }
+
+    // Conteos por tipo y por CPU (cpu -1 = eventos del reloj / memoria)
+    public static class Resumen implements Visitante {
+        private final long[] porTipo = new long[RegistroEventos.Tipo.values().length];
+        private final Map<Integer, long[]> porCpu = new TreeMap<>();
+        private int primerTick = Integer.MAX_VALUE;
+        private int ultimoTick = Integer.MIN_VALUE;
+        private long total = 0;
+
+        @Override
+        public void evento(int tick, int cpu, int pid, RegistroEventos.Tipo tipo, int argumento) {
+            porTipo[tipo.ordinal()]++;
+            porCpu.computeIfAbsent(cpu, k -> new long[porTipo.length])[tipo.ordinal()]++;
+            primerTick = Math.min(primerTick, tick);
+            ultimoTick = Math.max(ultimoTick, tick);
+            total++;
+        }
+
+        public long getCantidad(RegistroEventos.Tipo tipo) {
+            return porTipo[tipo.ordinal()];
+        }
+
+        public long getCantidad(int cpu, RegistroEventos.Tipo tipo) {
+            long[] c = porCpu.get(cpu);
+            return c == null ? 0 : c[tipo.ordinal()];
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void imprimir(PrintStream out) {
+            out.printf("%d eventos, ticks %d..%d%n", total, total == 0 ? 0 : primerTick, total == 0 ? 0 : ultimoTick);
+            for (RegistroEventos.Tipo t : RegistroEventos.Tipo.values()) {
+                out.printf("  %-15s %12d%n", t, porTipo[t.ordinal()]);
+            }
+            out.println("Por CPU:");
+            out.printf("  %-6s", "cpu");
+            for (RegistroEventos.Tipo t : RegistroEventos.Tipo.values()) {
+                if (porTipo[t.ordinal()] > 0) out.printf(" %14s", t);
+            }
+            out.println();
+            for (Map.Entry<Integer, long[]> e : porCpu.entrySet()) {
+                out.printf("  %-6s", e.getKey() < 0 ? "-" : String.valueOf(e.getKey()));
+                for (RegistroEventos.Tipo t : RegistroEventos.Tipo.values()) {
+                    if (porTipo[t.ordinal()] > 0) out.printf(" %14d", e.getValue()[t.ordinal()]);
+                }
+                out.println();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Uso: java simulador.LectorEventos eventos.bin [-resumen] [-pid N] [-tipo TIPO]");
+            return;
+        }
+        boolean resumen = false;
+        Integer pid = null;
+        RegistroEventos.Tipo tipo = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("-resumen")) {
+                resumen = true;
+            } else if (args[i].equals("-pid") && i + 1 < args.length) {
+                pid = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-tipo") && i + 1 < args.length) {
+                tipo = RegistroEventos.Tipo.valueOf(args[++i].toUpperCase());
+            } else {
+                throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        final Integer filtroPid = pid;
+        final RegistroEventos.Tipo filtroTipo = tipo;
+        Path ruta = Paths.get(args[0]);
+        if (resumen) {
+            Resumen r = new Resumen();
+            leer(ruta, (t, c, p, e, a) -> {
+                if ((filtroPid == null || p == filtroPid) && (filtroTipo == null || e == filtroTipo)) {
+                    r.evento(t, c, p, e, a);
+                }
+            });
+            r.imprimir(System.out);
+            return;
+        }
+
+        PrintStream out = new PrintStream(new BufferedOutputStream(System.out, 1 << 16), false);
+        out.println("tick,cpu,pid,tipo,argumento");
+        leer(ruta, (t, c, p, e, a) -> {
+            if ((filtroPid == null || p == filtroPid) && (filtroTipo == null || e == filtroTipo)) {
+                out.println(t + "," + (c < 0 ? "" : c) + "," + (p < 0 ? "" : p) + "," + e + "," + a);
+            }
+        });
+        out.flush();
+    }
+}
@@ -0,0 +1,45 @@
+package simulador;
+
+import java.util.Arrays;
+
+// Lista de int sin boxing (filas de TablaProcesos). No es thread-safe.
+public class ListaEnteros {
+
+    private int[] datos;
+    private int tamano = 0;
+
+    public ListaEnteros() {
+        this(16);
+    }
+
+    public ListaEnteros(int capacidad) {
+        datos = new int[Math.max(1, capacidad)];
+    }
+
+    public void agregar(int v) {
+        if (tamano == datos.length) {
+            datos = Arrays.copyOf(datos, datos.length * 2);
+        }
+        datos[tamano++] = v;
+    }
+
+    public int get(int i) {
+        return datos[i];
+    }
+
+    public void set(int i, int v) {
+        datos[i] = v;
+    }
+
+    public int quitarUltimo() {
+        return datos[--tamano];
+    }
+
+    public int tamano() {
+        return tamano;
+    }
+
+    public void limpiar() {
+        tamano = 0;
+    }
+}
@@ -0,0 +1,87 @@
+package simulador;
+
+import java.util.Scanner;
+import javax.swing.SwingUtilities;
+
+public class Main {
+
+    public static void main(String[] args) {
+
+        // Reiniciar tiempo global (por si se ejecutó antes en la misma JVM)
+        TiempoGlobal.reset();
+
+        // ejemplo: 6 CPUs, quantum 4, RAM 16MB 
+        PlanificadorMultiprocesador plan = new PlanificadorMultiprocesador(3, 4, 4 * 1024);
+
+        // opcional: traza de carga (.csv o binaria) que el reloj reproduce por su cuenta
+        if (args.length > 0) {
+            try {
+                plan.setFuenteCarga(FuenteCarga.abrir(args[0]));
+                System.out.println("Reproduciendo traza: " + args[0]);
+            } catch (java.io.IOException e) {
+                System.err.println("No se pudo abrir la traza " + args[0] + ": " + e.getMessage());
+            }
+        }
+
+        // historial para el Gantt de la GUI (se puede alejar hasta ver toda la corrida)
+        plan.setHorizonteGantt(HistorialGantt.HORIZONTE_POR_DEFECTO);
+
+        plan.iniciar(); // arranca CPUs + reloj
+
+        // Lanzar GUI en Swing 
+        SwingUtilities.invokeLater(() -> {
+            new InterfaSim(plan);
+        });
+
+        Scanner sc = new Scanner(System.in);
+
+        System.out.println("=== SIMULADOR INICIADO ===");
+        System.out.println("Comandos:");
+        System.out.println("  add <prioridad> <tiempoCPU> [mem]   -> agrega proceso (mem opcional: 512, 2mb, 256kb)");
+        System.out.println("  ENTER (línea vacía)                 -> salir");
+
+        while (true) {
+            String linea = sc.nextLine();
+
+            // salir si línea vacía
+            if (linea == null || linea.trim().equals("")) {
+                System.out.println("Cerrando simulador...");
+                plan.detener();
+                break;
+            }
+
+            // agregar proceso
+            if (linea.trim().toLowerCase().startsWith("add")) {
+                try {
+                    String[] p = linea.trim().split("\\s+");
+                    if (p.length < 3)
+                        throw new IllegalArgumentException();
+
+                    int prioridad = Integer.parseInt(p[1]);
+                    int cpuTime = Integer.parseInt(p[2]);
+
+                    int memKB = 0;
+                    if (p.length >= 4) {
+                        memKB = AdministradorMemoria.parsearTamanoKB(p[3]);
+                    }
+
+                    Proceso nuevo = new Proceso(plan.nuevoPid(), prioridad, -1, cpuTime, memKB); // llegada la fijará el planificador
+                    plan.agregarProceso(nuevo);
+
+                    System.out.println("Proceso agregado: P" + nuevo.getId() +
+                            " (prio=" + prioridad + ", cpu=" + cpuTime +
+                            ", mem=" + memKB + "KB, llegada=" + nuevo.getTiempoLlegada() + ")");
+                } catch (Exception e) {
+                    System.out.println("Formato inválido. Usa: add prioridad tiempoCPU [mem]");
+                }
+            } else {
+                System.out.println("Comando desconocido. Usa 'add' o presiona ENTER para salir.");
+            }
+        }
+
+        // estadisticas finales
+        Estadisticas.imprimir(plan, System.out);
+
+        System.out.println("\nPrograma finalizado.");
+    }
+}
@@ -0,0 +1,100 @@
+package simulador;
+
+import java.util.Arrays;
+
+// Mapa int -> int sin boxing (direccionamiento abierto con sondeo lineal).
+// get devuelve AUSENTE si la clave no está. No es thread-safe.
+public class MapaEnteros {
+
+    public static final int AUSENTE = Integer.MIN_VALUE;
+
+    private int[] claves;
+    private int[] valores;
+    private boolean[] usadas;
+    private int mascara;
+    private int tamano = 0;
+
+    public MapaEnteros() {
+        this(16);
+    }
+
+    public MapaEnteros(int capacidad) {
+        int n = Integer.highestOneBit(Math.max(4, capacidad) * 2 - 1) << 1; // carga <= 1/2
+        claves = new int[n];
+        valores = new int[n];
+        usadas = new boolean[n];
+        mascara = n - 1;
+    }
+
+    private int posicion(int clave) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    public int get(int clave) {
+        for (int i = posicion(clave); usadas[i]; i = (i + 1) & mascara) {
+            if (claves[i] == clave) return valores[i];
+        }
+        return AUSENTE;
+    }
+
+    public boolean contiene(int clave) {
+        return get(clave) != AUSENTE;
+    }
+
+    public void put(int clave, int valor) {
+        int i = posicion(clave);
+        for (; usadas[i]; i = (i + 1) & mascara) {
+            if (claves[i] == clave) {
+                valores[i] = valor;
+                return;
+            }
+        }
+        usadas[i] = true;
+        claves[i] = clave;
+        valores[i] = valor;
+        if (++tamano * 2 > claves.length) agrandar();
+    }
+
+    // Borra corriendo hacia atrás los que quedaban después (sin marcas de borrado)
+    public void quitar(int clave) {
+        int i = posicion(clave);
+        while (usadas[i] && claves[i] != clave) i = (i + 1) & mascara;
+        if (!usadas[i]) return;
+        usadas[i] = false;
+        tamano--;
+        for (int j = (i + 1) & mascara; usadas[j]; j = (j + 1) & mascara) {
+            int ideal = posicion(claves[j]);
+            // j se queda si su posición ideal está en (i, j] (circular)
+            if (((j - ideal) & mascara) < ((j - i) & mascara)) continue;
+            claves[i] = claves[j];
+            valores[i] = valores[j];
+            usadas[i] = true;
+            usadas[j] = false;
+            i = j;
+        }
+    }
+
+    public int tamano() {
+        return tamano;
+    }
+
+    public void limpiar() {
+        Arrays.fill(usadas, false);
+        tamano = 0;
+    }
+
+    private void agrandar() {
+        int[] k = claves;
+        int[] v = valores;
+        boolean[] u = usadas;
+        claves = new int[k.length * 2];
+        valores = new int[k.length * 2];
+        usadas = new boolean[k.length * 2];
+        mascara = claves.length - 1;
+        tamano = 0;
+        for (int i = 0; i < k.length; i++) {
+            if (u[i]) put(k[i], v[i]);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package simulador;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// MBeans de monitoreo del planificador, visibles desde JConsole/VisualVM o como
+// eventos de JFR (jdk.MBean*). Un MBean por planificador, uno por CPU y uno para la
+// memoria, con nombres
+//   simulador:type=Planificador,name=N
+//   simulador:type=Procesador,planificador=N,id=I
+//   simulador:type=Memoria,planificador=N
+//
+// Todo lo que leen son contadores distribuidos (LongAdder), atómicos o volatile
+// escritos por un único hilo, y los tamaños sin lock de los deques: consultar un
+// atributo nunca toma un lock que usen el reloj o las CPUs.
+public class MetricasJMX {
+
+    public interface PlanificadorMXBean {
+        int getTick();
+        double getTicksPorSegundo();
+        String getMotor();
+        int getCantidadCpus();
+        long getLlegadas();
+        long getTerminados();
+        long getIntentosRobo();
+        long getRobosExitosos();
+        long getProcesosRobados();
+        long getSuspensiones();
+        long getReactivaciones();
+        // procesos listos por nivel de prioridad, sumando todas las CPUs
+        int[] getLongitudColasPorPrioridad();
+        double getPromedioTrabajoFaseNs();
+        double getPromedioRelojFaseNs();
+        long getMaxTrabajoFaseNs();
+    }
+
+    public interface ProcesadorMXBean {
+        int getId();
+        long getTicksEjecutados();
+        long getTicksTotales();
+        double getUtilizacion();
+        int getCarga();
+        long getTrabajoPendiente();
+        int[] getLongitudColasPorPrioridad();
+    }
+
+    public interface MemoriaMXBean {
+        String getEstrategia();
+        int getTotalKB();
+        int getOcupadoKB();
+        int getBloquesLibres();
+        int getMayorBloqueLibre();
+        double getFragmentacionExterna();
+        long getAsignacionesFallidas();
+    }
+
+    private static final AtomicInteger instancias = new AtomicInteger();
+
+    private final PlanificadorMultiprocesador plan;
+    private final int numero = instancias.getAndIncrement();
+    private final List<ObjectName> registrados = new ArrayList<>();
+
+    public MetricasJMX(PlanificadorMultiprocesador plan) {
+        this.plan = plan;
+    }
+
+    // Registra los MBeans en el servidor de la plataforma. Un fallo no es fatal:
+    // la simulación corre igual, solo que sin monitoreo.
+    public synchronized void registrar() {
+        if (!registrados.isEmpty()) return;
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            registrar(servidor, new Planificador(), "simulador:type=Planificador,name=" + numero);
+            List<Procesador> cpus = plan.getCpus();
+            for (int i = 0; i < cpus.size(); i++) {
+                registrar(servidor, new Cpu(i, cpus.get(i)), "simulador:type=Procesador,planificador=" + numero + ",id=" + i);
+            }
+            registrar(servidor, new Memoria(plan.getMemManager()), "simulador:type=Memoria,planificador=" + numero);
+        } catch (Exception e) {
+            System.err.println("No se pudieron registrar los MBeans: " + e.getMessage());
+        }
+    }
+
+    private void registrar(MBeanServer servidor, Object mbean, String nombre) throws Exception {
+        ObjectName n = new ObjectName(nombre);
+        servidor.registerMBean(mbean, n);
+        registrados.add(n);
+    }
+
+    public synchronized void quitar() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName n : registrados) {
+            try {
+                servidor.unregisterMBean(n);
+            } catch (Exception ignored) {
+            }
+        }
+        registrados.clear();
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    static int[] longitudColas(RoundRobin rr, int[] destino) {
+        for (int nivel = 0; nivel < RoundRobin.NIVELES; nivel++) {
+            destino[nivel] += rr.getLongitudCola(nivel);
+        }
+        return destino;
+    }
+
+    private class Planificador implements PlanificadorMXBean {
+        public int getTick() {
+            return TiempoGlobal.get();
+        }
+
+        public double getTicksPorSegundo() {
+            return plan.getSincronizador().getTicksPorSegundo();
+        }
+
+        public String getMotor() {
+            return plan.getMotor().name();
+        }
+
+        public int getCantidadCpus() {
+            return plan.getCpus().size();
+        }
+
+        public long getLlegadas() {
+            return plan.getLlegadasInyectadas();
+        }
+
+        public long getTerminados() {
+            return plan.getCantidadTerminados();
+        }
+
+        public long getIntentosRobo() {
+            return plan.getIntentosRobo();
+        }
+
+        public long getRobosExitosos() {
+            return plan.getRobosExitosos();
+        }
+
+        public long getProcesosRobados() {
+            return plan.getProcesosRobados();
+        }
+
+        public long getSuspensiones() {
+            return plan.getSuspensiones();
+        }
+
+        public long getReactivaciones() {
+            return plan.getReactivaciones();
+        }
+
+        public int[] getLongitudColasPorPrioridad() {
+            int[] r = new int[RoundRobin.NIVELES];
+            for (Procesador cpu : plan.getCpus()) longitudColas(cpu.rr, r);
+            return r;
+        }
+
+        public double getPromedioTrabajoFaseNs() {
+            return plan.getSincronizador().getPromedioTrabajoNs();
+        }
+
+        public double getPromedioRelojFaseNs() {
+            return plan.getSincronizador().getPromedioRelojNs();
+        }
+
+        public long getMaxTrabajoFaseNs() {
+            return plan.getSincronizador().getMaxTrabajoNs();
+        }
+    }
+
+    private static class Cpu implements ProcesadorMXBean {
+        private final int id;
+        private final Procesador cpu;
+
+        Cpu(int id, Procesador cpu) {
+            this.id = id;
+            this.cpu = cpu;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public long getTicksEjecutados() {
+            return cpu.getTicksEjecutados();
+        }
+
+        public long getTicksTotales() {
+            return cpu.getTicksTotales();
+        }
+
+        public double getUtilizacion() {
+            long total = cpu.getTicksTotales();
+            return total == 0 ? 0 : (double) cpu.getTicksEjecutados() / total;
+        }
+
+        public int getCarga() {
+            return cpu.getCarga();
+        }
+
+        public long getTrabajoPendiente() {
+            return cpu.getTrabajoPendiente();
+        }
+
+        public int[] getLongitudColasPorPrioridad() {
+            return longitudColas(cpu.rr, new int[RoundRobin.NIVELES]);
+        }
+    }
+
+    private static class Memoria implements MemoriaMXBean {
+        private final AdministradorMemoria mem;
+
+        Memoria(AdministradorMemoria mem) {
+            this.mem = mem;
+        }
+
+        public String getEstrategia() {
+            return mem.getTipoEstrategia().name();
+        }
+
+        public int getTotalKB() {
+            return mem.getTamTotalKB();
+        }
+
+        public int getOcupadoKB() {
+            return mem.getOcupadoKBPublicado();
+        }
+
+        public int getBloquesLibres() {
+            return mem.getCantidadBloquesLibresPublicada();
+        }
+
+        public int getMayorBloqueLibre() {
+            return mem.getMayorBloqueLibrePublicado();
+        }
+
+        public double getFragmentacionExterna() {
+            return mem.getFragmentacionExternaPublicada();
+        }
+
+        public long getAsignacionesFallidas() {
+            return mem.getAsignacionesFallidasPublicadas();
+        }
+    }
+}
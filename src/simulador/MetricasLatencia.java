@@ -0,0 +1,137 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Latencias de los procesos terminados (respuesta, espera, retorno) en histogramas
+// que se actualizan al terminar cada proceso. No guarda procesos, así que el
+// consumo de memoria no crece con la corrida. Cada CPU escribe solo en su propio
+// Registro (por nivel de prioridad); las consultas recorren los histogramas en
+// vivo, sin lock y sin copiarlos.
+public class MetricasLatencia {
+
+    public enum Metrica {
+        RESPUESTA,
+        ESPERA,
+        RETORNO
+    }
+
+    private static final Metrica[] METRICAS = Metrica.values();
+
+    // Histogramas de una CPU: [nivel][métrica], cada nivel se crea la primera vez que
+    // termina un proceso de esa prioridad. Solo lo escribe la CPU dueña.
+    public static class Registro {
+        private final AtomicReferenceArray<HistogramaLatencia[]> porNivel =
+                new AtomicReferenceArray<>(RoundRobin.NIVELES);
+
+        public void registrar(Proceso p) {
+            int nivel = RoundRobin.nivelDe(p.getPrioridad());
+            HistogramaLatencia[] hs = porNivel.get(nivel);
+            if (hs == null) {
+                hs = new HistogramaLatencia[METRICAS.length];
+                for (int i = 0; i < hs.length; i++) hs[i] = new HistogramaLatencia();
+                porNivel.set(nivel, hs);
+            }
+            // el tick de fin es inclusivo: quien no esperó nada da espera -1, se cuenta como 0
+            hs[Metrica.RESPUESTA.ordinal()].registrar(Math.max(0, p.getTiempoRespuesta()));
+            hs[Metrica.ESPERA.ordinal()].registrar(Math.max(0, p.getTiempoEspera()));
+            hs[Metrica.RETORNO.ordinal()].registrar(Math.max(0, p.getTiempoRetorno()));
+        }
+
+        HistogramaLatencia get(int nivel, Metrica m) {
+            HistogramaLatencia[] hs = porNivel.get(nivel);
+            return hs == null ? null : hs[m.ordinal()];
+        }
+    }
+
+    private final List<Registro> registros;
+
+    // un registro por CPU, en el orden de las CPUs
+    public MetricasLatencia(List<Registro> registros) {
+        this.registros = registros;
+    }
+
+    // ---- consultas (cpu = -1 / nivel = -1 significa "todas/todos") ----
+
+    public long percentil(Metrica m, int cpu, int nivel, double p) {
+        return HistogramaLatencia.percentil(seleccionar(m, cpu, nivel), p);
+    }
+
+    public long percentil(Metrica m, double p) {
+        return percentil(m, -1, -1, p);
+    }
+
+    public long percentilPorPrioridad(Metrica m, int nivel, double p) {
+        return percentil(m, -1, nivel, p);
+    }
+
+    public long percentilPorCpu(Metrica m, int cpu, double p) {
+        return percentil(m, cpu, -1, p);
+    }
+
+    public long getCantidad(Metrica m, int cpu, int nivel) {
+        long n = 0;
+        for (HistogramaLatencia h : seleccionar(m, cpu, nivel)) n += h.getCantidad();
+        return n;
+    }
+
+    public double getPromedio(Metrica m, int cpu, int nivel) {
+        long n = 0;
+        long suma = 0;
+        for (HistogramaLatencia h : seleccionar(m, cpu, nivel)) {
+            n += h.getCantidad();
+            suma += h.getSuma();
+        }
+        return n == 0 ? 0 : (double) suma / n;
+    }
+
+    public long getMaximo(Metrica m, int cpu, int nivel) {
+        long max = 0;
+        for (HistogramaLatencia h : seleccionar(m, cpu, nivel)) max = Math.max(max, h.getMaximo());
+        return max;
+    }
+
+    // Cuentas de una métrica agrupadas por límites (ver HistogramaLatencia.sumarPorLimites);
+    // destino tiene limites.length + 1 posiciones
+    public void sumarPorLimites(Metrica m, int cpu, int nivel, long[] limites, long[] destino) {
+        for (HistogramaLatencia h : seleccionar(m, cpu, nivel)) h.sumarPorLimites(limites, destino);
+    }
+
+    public long getSuma(Metrica m, int cpu, int nivel) {
+        long suma = 0;
+        for (HistogramaLatencia h : seleccionar(m, cpu, nivel)) suma += h.getSuma();
+        return suma;
+    }
+
+    // niveles de prioridad con al menos un proceso terminado, de menor a mayor
+    public List<Integer> getNivelesUsados() {
+        TreeSet<Integer> niveles = new TreeSet<>();
+        for (Registro r : registros) {
+            for (int n = 0; n < RoundRobin.NIVELES; n++) {
+                if (r.porNivel.get(n) != null) niveles.add(n);
+            }
+        }
+        return new ArrayList<>(niveles);
+    }
+
+    public int getCantidadCpus() {
+        return registros.size();
+    }
+
+    // referencias a los histogramas que entran en la consulta (no copia sus datos)
+    private List<HistogramaLatencia> seleccionar(Metrica m, int cpu, int nivel) {
+        List<HistogramaLatencia> r = new ArrayList<>();
+        for (int c = 0; c < registros.size(); c++) {
+            if (cpu >= 0 && c != cpu) continue;
+            Registro reg = registros.get(c);
+            for (int n = 0; n < RoundRobin.NIVELES; n++) {
+                if (nivel >= 0 && n != nivel) continue;
+                HistogramaLatencia h = reg.get(n, m);
+                if (h != null) r.add(h);
+            }
+        }
+        return r;
+    }
+}
@@ -0,0 +1,288 @@
+package simulador;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+// Modelo de la tabla de procesos de InterfaSim. Guarda una fila por pid con sus
+// valores ya calculados (enteros, sin objetos por celda) y en cada refresco
+// aplica solo las diferencias: filas que cambiaron, filas que ya no están y
+// filas nuevas (al final), cada grupo con su propio evento. JTable pide solo las
+// celdas visibles, así que pintar no depende de cuántos procesos haya.
+//
+// actualizar recorre todos los procesos de la foto. Si se sabe qué pids cambiaron
+// desde el refresco anterior (InstantaneaSistema.copiarCambiosDesde), aplicarCambios
+// toca solo esas filas: el costo depende de los cambios y no de la población.
+// Solo se usa desde el EDT.
+public class ModeloTablaProcesos extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMNAS =
+            {"ID", "Prio", "Llegada", "Inicio", "CPU Rest", "Espera", "Resp", "Retorno", "Estado", "MemKB"};
+    private static final String[] ESTADOS = {"Listo", "Ejecutando", "Suspendido", "Terminado"};
+    private static final int COLS = COLUMNAS.length;
+    private static final int COL_ESTADO = 8;
+
+    // fila r en datos[r*COLS .. r*COLS+COLS-1]; marca[r] = último refresco en que se vio
+    private int[] datos = new int[64 * COLS];
+    private int[] marca = new int[64];
+    private int filas = 0;
+    private int refresco = 0;
+
+    // pid -> fila; negativo (-(k+1)) para la k-ésima fila nueva del refresco en curso
+    private final MapaEnteros filaPorPid = new MapaEnteros(64);
+
+    // pids de las filas terminadas, de la más vieja a la más nueva (puede tener pids
+    // que ya no están), para descartar las viejas en aplicarCambios
+    private ListaEnteros ordenTerminados = new ListaEnteros();
+    private int inicioTerminados = 0;
+    private int terminadosEnTabla = 0;
+    // pids en CPU del último refresco
+    private int[] enCpuAnterior = new int[0];
+
+    // buffers reutilizados entre refrescos
+    private final int[] valores = new int[COLS];
+    private final ListaEnteros nuevas = new ListaEnteros();
+    private final ListaEnteros cambiadas = new ListaEnteros();
+
+    // Aplica el estado actual. 'procesos' puede repetir un pid (p. ej. activo y ya
+    // terminado): gana la última aparición. pidsEnCpu: pids en ejecución, ordenados.
+    public void actualizar(Iterable<Proceso> procesos, int[] pidsEnCpu) {
+        refresco++;
+        nuevas.limpiar();
+        cambiadas.limpiar();
+
+        for (Proceso p : procesos) {
+            calcular(p, pidsEnCpu);
+            int r = filaPorPid.get(valores[0]);
+            if (r == MapaEnteros.AUSENTE) {
+                filaPorPid.put(valores[0], -(nuevas.tamano() / COLS + 1));
+                for (int v : valores) nuevas.agregar(v);
+            } else if (r < 0) {
+                int base = (-r - 1) * COLS;
+                for (int c = 0; c < COLS; c++) nuevas.set(base + c, valores[c]);
+            } else {
+                marca[r] = refresco;
+                if (!igual(r)) {
+                    System.arraycopy(valores, 0, datos, r * COLS, COLS);
+                    cambiadas.agregar(r);
+                }
+            }
+        }
+
+        // cambios en filas existentes (los índices todavía son los del refresco anterior)
+        for (int i = 0; i < cambiadas.tamano(); i++) {
+            int r = cambiadas.get(i);
+            fireTableRowsUpdated(r, r);
+        }
+
+        quitarNoVistas();
+
+        // filas nuevas al final
+        int cantidadNuevas = nuevas.tamano() / COLS;
+        if (cantidadNuevas > 0) {
+            int desde = filas;
+            asegurarCapacidad(filas + cantidadNuevas);
+            for (int k = 0; k < cantidadNuevas; k++) {
+                int r = filas++;
+                for (int c = 0; c < COLS; c++) datos[r * COLS + c] = nuevas.get(k * COLS + c);
+                marca[r] = refresco;
+                filaPorPid.put(datos[r * COLS], r);
+            }
+            fireTableRowsInserted(desde, filas - 1);
+        }
+        reconstruirTerminados();
+        enCpuAnterior = pidsEnCpu;
+    }
+
+    // Aplica solo los pids de 'pids' (pueden repetirse) y los que están o estaban en
+    // una CPU (un despacho sin tramo ejecutado no se anota). buscar da el proceso
+    // actual de un pid o null si ya no está en la foto (su fila se borra). Además
+    // descarta las filas terminadas más viejas hasta dejar a lo sumo maxTerminados.
+    //
+    // Una fila borrada se rellena con la última, así que las filas pueden cambiar
+    // de lugar (la tabla no promete ningún orden).
+    public void aplicarCambios(ListaEnteros pids, IntFunction<Proceso> buscar, int[] pidsEnCpu, int maxTerminados) {
+        refresco++;
+        for (int i = 0; i < pids.tamano(); i++) aplicar(pids.get(i), buscar, pidsEnCpu);
+        for (int pid : enCpuAnterior) aplicar(pid, buscar, pidsEnCpu);
+        for (int pid : pidsEnCpu) aplicar(pid, buscar, pidsEnCpu);
+        enCpuAnterior = pidsEnCpu;
+
+        while (terminadosEnTabla > maxTerminados && inicioTerminados < ordenTerminados.tamano()) {
+            int r = filaPorPid.get(ordenTerminados.get(inicioTerminados++));
+            if (r != MapaEnteros.AUSENTE && datos[r * COLS + COL_ESTADO] == 3) quitarFila(r);
+        }
+        compactarTerminados();
+    }
+
+    private void aplicar(int pid, IntFunction<Proceso> buscar, int[] pidsEnCpu) {
+        int r = filaPorPid.get(pid);
+        if (r != MapaEnteros.AUSENTE && marca[r] == refresco) return;
+        Proceso p = buscar.apply(pid);
+        if (p == null) {
+            if (r != MapaEnteros.AUSENTE) quitarFila(r);
+            return;
+        }
+        calcular(p, pidsEnCpu);
+        if (r == MapaEnteros.AUSENTE) {
+            asegurarCapacidad(filas + 1);
+            r = filas++;
+            System.arraycopy(valores, 0, datos, r * COLS, COLS);
+            filaPorPid.put(pid, r);
+            marca[r] = refresco;
+            if (valores[COL_ESTADO] == 3) anotarTerminado(pid);
+            fireTableRowsInserted(r, r);
+            return;
+        }
+        marca[r] = refresco;
+        if (!igual(r)) {
+            if (valores[COL_ESTADO] == 3 && datos[r * COLS + COL_ESTADO] != 3) anotarTerminado(pid);
+            System.arraycopy(valores, 0, datos, r * COLS, COLS);
+            fireTableRowsUpdated(r, r);
+        }
+    }
+
+    // Borra la fila r moviendo la última a su lugar
+    private void quitarFila(int r) {
+        int ultima = filas - 1;
+        filaPorPid.quitar(datos[r * COLS]);
+        if (datos[r * COLS + COL_ESTADO] == 3) terminadosEnTabla--;
+        if (r != ultima) {
+            System.arraycopy(datos, ultima * COLS, datos, r * COLS, COLS);
+            marca[r] = marca[ultima];
+            filaPorPid.put(datos[r * COLS], r);
+        }
+        filas--;
+        fireTableRowsDeleted(ultima, ultima);
+        if (r != ultima) fireTableRowsUpdated(r, r);
+    }
+
+    private void anotarTerminado(int pid) {
+        ordenTerminados.agregar(pid);
+        terminadosEnTabla++;
+    }
+
+    private void compactarTerminados() {
+        if (inicioTerminados < 1024 || inicioTerminados * 2 < ordenTerminados.tamano()) return;
+        ListaEnteros resto = new ListaEnteros(ordenTerminados.tamano() - inicioTerminados);
+        for (int i = inicioTerminados; i < ordenTerminados.tamano(); i++) resto.agregar(ordenTerminados.get(i));
+        ordenTerminados = resto;
+        inicioTerminados = 0;
+    }
+
+    // Después de un refresco completo: terminadas en orden de fin (llegada + retorno)
+    private void reconstruirTerminados() {
+        long[] porFin = new long[filas];
+        int n = 0;
+        for (int r = 0; r < filas; r++) {
+            int base = r * COLS;
+            if (datos[base + COL_ESTADO] != 3) continue;
+            long fin = (long) datos[base + 2] + datos[base + 7];
+            porFin[n++] = (fin << 32) | (r & 0xFFFFFFFFL);
+        }
+        Arrays.sort(porFin, 0, n);
+        ordenTerminados = new ListaEnteros(Math.max(16, n));
+        inicioTerminados = 0;
+        for (int i = 0; i < n; i++) ordenTerminados.agregar(datos[(int) porFin[i] * COLS]);
+        terminadosEnTabla = n;
+    }
+
+    // Borra los tramos de filas que no aparecieron, del último al primero para que
+    // cada evento vea índices válidos, y reindexa solo las filas que se corrieron.
+    private void quitarNoVistas() {
+        int primeraCorrida = filas;
+        int r = filas - 1;
+        while (r >= 0) {
+            if (marca[r] == refresco) {
+                r--;
+                continue;
+            }
+            int hasta = r;
+            while (r >= 0 && marca[r] != refresco) {
+                filaPorPid.quitar(datos[r * COLS]);
+                r--;
+            }
+            int desde = r + 1;
+            int n = hasta - desde + 1;
+            System.arraycopy(datos, (hasta + 1) * COLS, datos, desde * COLS, (filas - hasta - 1) * COLS);
+            System.arraycopy(marca, hasta + 1, marca, desde, filas - hasta - 1);
+            filas -= n;
+            primeraCorrida = desde;
+            fireTableRowsDeleted(desde, hasta);
+        }
+        for (int i = primeraCorrida; i < filas; i++) {
+            filaPorPid.put(datos[i * COLS], i);
+        }
+    }
+
+    private void calcular(Proceso p, int[] pidsEnCpu) {
+        int estado;
+        if (p.getEstado() == Proceso.Estado.TERMINADO) estado = 3;
+        else if (p.getEstado() == Proceso.Estado.SUSPENDIDO) estado = 2;
+        else if (Arrays.binarySearch(pidsEnCpu, p.getId()) >= 0) estado = 1;
+        else estado = 0;
+
+        valores[0] = p.getId();
+        valores[1] = p.getPrioridad();
+        valores[2] = p.getTiempoLlegada();
+        valores[3] = p.getTiempoInicio();
+        valores[4] = p.getTiempoRestante();
+        valores[5] = p.getTiempoEspera();
+        valores[6] = p.getTiempoRespuesta();
+        valores[7] = p.getTiempoRetorno();
+        valores[COL_ESTADO] = estado;
+        valores[9] = p.getTamMemoriaKB();
+    }
+
+    private boolean igual(int r) {
+        int base = r * COLS;
+        for (int c = 0; c < COLS; c++) {
+            if (datos[base + c] != valores[c]) return false;
+        }
+        return true;
+    }
+
+    private void asegurarCapacidad(int n) {
+        if (n <= marca.length) return;
+        int cap = Math.max(n, marca.length * 2);
+        datos = Arrays.copyOf(datos, cap * COLS);
+        marca = Arrays.copyOf(marca, cap);
+    }
+
+    @Override
+    public int getRowCount() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLS;
+    }
+
+    @Override
+    public String getColumnName(int c) {
+        return COLUMNAS[c];
+    }
+
+    @Override
+    public Object getValueAt(int r, int c) {
+        int v = datos[r * COLS + c];
+        switch (c) {
+            case 3: // inicio
+            case 6: // respuesta
+            case 7: // retorno
+                return v < 0 ? "-" : v;
+            case COL_ESTADO:
+                return ESTADOS[v];
+            default:
+                return v;
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int r, int c) {
+        return false;
+    }
+}
@@ -0,0 +1,762 @@
+/* File: PlanificadorMultiprocesador.java */
+package simulador;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PlanificadorMultiprocesador {
+
+    private final List<Procesador> cpus;
+    private final SincronizadorTicks sincronizador;
+    private volatile boolean relojEjecutando = false;
+    private Thread hiloReloj = null;
+
+    // Ritmo del reloj: ticks simulados por segundo real. 1.0 = 1 tick/s (demo),
+    // SIN_PAUSA = el reloj avanza en cuanto todas las CPUs terminan su tick.
+    public static final double SIN_PAUSA = 0;
+    private volatile double factorTiempoReal = 1.0;
+
+    // Motor de simulación: POR_TICK avanza el reloj de a un tick; EVENTOS salta
+    // directamente al próximo instante en que algo cambia (fin, quantum, robo)
+    // aplicando el consumo de CPU en bloque. Ambos producen los mismos resultados.
+    public enum Motor {
+        POR_TICK,
+        EVENTOS
+    }
+
+    private volatile Motor motor = Motor.POR_TICK;
+
+    private final AdministradorMemoria memManager;
+
+    // Datos de todos los procesos admitidos, en columnas (las colas guardan filas)
+    private final TablaProcesos tabla = new TablaProcesos();
+    // Baja a disco los terminados que no entran en el historial en memoria de cada CPU
+    private final EscritorHistorial escritorHistorial = new EscritorHistorial();
+
+    // Elección de CPU para procesos nuevos y reactivados
+    private final UbicadorProcesos ubicador = new UbicadorProcesos();
+
+    // Estadísticas de robo de trabajo (contadores distribuidos: las CPUs no compiten)
+    private final LongAdder intentosRobo = new LongAdder();
+    private final LongAdder robosExitosos = new LongAdder();
+    private final LongAdder procesosRobados = new LongAdder();
+    private final LongAdder cantidadTerminados = new LongAdder();
+    private final LongAdder suspensiones = new LongAdder();
+    private final LongAdder reactivaciones = new LongAdder();
+
+    // MBeans de monitoreo (JConsole, JFR): se registran al iniciar y se quitan al detener
+    private final MetricasJMX jmx = new MetricasJMX(this);
+    // Endpoint Prometheus en localhost (opcional): puerto < 0 = no se levanta, 0 = cualquiera libre
+    private int puertoMetricas = -1;
+    private ExportadorPrometheus exportador = null;
+
+    // Latencias por prioridad y por CPU, siempre disponibles. Guardar además cada
+    // proceso terminado (historial por CPU: recientes en memoria, el resto en disco)
+    // es opcional: sin retención tampoco crece el archivo del historial.
+    private final MetricasLatencia latencias;
+    private volatile boolean retenerTerminados = true;
+    // Suspendidos por falta de memoria (protegido por su propio monitor). Solo se
+    // revisan cuando AdministradorMemoria avisa que liberó memoria.
+    private final IndiceSuspendidos suspendidos = new IndiceSuspendidos();
+    private volatile IndiceSuspendidos.Admision politicaAdmision = IndiceSuspendidos.Admision.FIFO;
+    private final AtomicBoolean memoriaLiberada = new AtomicBoolean(false);
+
+    // Carga externa (traza o generador) que el reloj inyecta en cada tiempoLlegada.
+    // Solo el hilo del reloj lee de la fuente; proximaLlegada es el registro ya leído.
+    private FuenteCarga fuenteCarga = null;
+    private volatile Proceso proximaLlegada = null;
+    private volatile long llegadasInyectadas = 0;
+    // mayor pid admitido o entregado por nuevoPid: las trazas numeran desde 1, así
+    // que un proceso agregado a mano no debe reutilizar los pids que vienen después
+    private final AtomicInteger ultimoPid = new AtomicInteger();
+
+    // Foto inmutable que el reloj publica al final de cada tick (ver InstantaneaSistema).
+    // Solo se arma si alguien la pidió alguna vez y a lo sumo una vez por intervalo.
+    public static final int TERMINADOS_EN_INSTANTANEA = 256; // por CPU
+    private volatile InstantaneaSistema instantanea;
+    private volatile boolean instantaneaObservada = false;
+    private volatile long intervaloInstantaneaNanos = 100_000_000L;
+    private long epocaInstantanea = 0;
+    private long ultimaInstantaneaNanos = 0;
+
+    // Pids que cambiaron entre fotos, para que la tabla de la GUI actualice solo esos
+    // (ver RegistroCambios). Se anotan recién cuando alguien observa las fotos: las
+    // CPUs anotan lo que ejecutan y acá se anotan llegadas, suspensiones y
+    // reactivaciones (cambiosPlanificador, protegida por su propio monitor).
+    private final RegistroCambios registroCambios = new RegistroCambios(RegistroCambios.CAPACIDAD_POR_DEFECTO);
+    private volatile boolean anotandoCambios = false;
+    private final ListaEnteros cambiosPlanificador = new ListaEnteros();
+    private boolean cambiosPlanificadorDesbordados = false;
+    private final ListaEnteros cambiosPorPublicar = new ListaEnteros(); // solo el reloj
+
+    // Qué pid ocupó cada CPU en cada tick, para el Gantt (null = no se guarda)
+    private HistorialGantt historialGantt = null;
+
+    // Registro binario de eventos (llegadas, memoria, despachos, robos...). null = sin registro.
+    private volatile RegistroEventos registroEventos = null;
+
+    public List<Procesador> getCpus() {
+        return cpus;
+    }
+
+    public PlanificadorMultiprocesador(int numProcesadores, int quantum) {
+        this(numProcesadores, quantum, 8 * 1024);
+    }
+
+    public PlanificadorMultiprocesador(int numProcesadores, int quantum, int ramTotalKB) {
+        this(numProcesadores, quantum, ramTotalKB, EstrategiaAsignacion.Tipo.MEJOR_AJUSTE);
+    }
+
+    public PlanificadorMultiprocesador(int numProcesadores, int quantum, int ramTotalKB,
+                                       EstrategiaAsignacion.Tipo estrategiaMemoria) {
+        cpus = new ArrayList<>();
+        this.memManager = new AdministradorMemoria(ramTotalKB, estrategiaMemoria);
+        this.memManager.setOnLiberacion(() -> memoriaLiberada.set(true));
+        this.sincronizador = new SincronizadorTicks(numProcesadores);
+
+        for (int i = 0; i < numProcesadores; i++) {
+            cpus.add(new Procesador(i, quantum, sincronizador, tabla, escritorHistorial));
+        }
+
+        List<MetricasLatencia.Registro> registros = new ArrayList<>();
+        for (Procesador cpu : cpus) {
+            cpu.setPlanificador(this);
+            registros.add(cpu.getLatencias());
+        }
+        this.latencias = new MetricasLatencia(registros);
+        this.instantanea = tomarInstantanea();
+    }
+
+    public TablaProcesos getTablaProcesos() {
+        return tabla;
+    }
+
+    public AdministradorMemoria getMemManager() {
+        return memManager;
+    }
+
+    // Se fija antes de iniciar(); el planificador lo cierra al detener
+    public void setRegistroEventos(RegistroEventos registro) {
+        this.registroEventos = registro;
+        for (Procesador cpu : cpus) {
+            cpu.setRegistroEventos(registro);
+        }
+    }
+
+    public RegistroEventos getRegistroEventos() {
+        return registroEventos;
+    }
+
+    // Guarda el Gantt de los últimos 'ticks' ticks por CPU. Se fija antes de iniciar().
+    public void setHorizonteGantt(int ticks) {
+        historialGantt = ticks <= 0 ? null : new HistorialGantt(cpus.size(), ticks);
+        for (int i = 0; i < cpus.size(); i++) {
+            cpus.get(i).rr.setHistorialGantt(historialGantt == null ? null : historialGantt.getCpu(i));
+        }
+    }
+
+    public HistorialGantt getHistorialGantt() {
+        return historialGantt;
+    }
+
+    private boolean cpusIniciadas = false;
+    private boolean pausado = false;
+    private final Object pausaLock = new Object();
+
+    public void iniciar() {
+        jmx.registrar();
+        iniciarExportador();
+        if (!cpusIniciadas) {
+            for (Procesador cpu : cpus) {
+                cpu.start();         
+            }
+            cpusIniciadas = true;
+        }
+
+        if (hiloReloj == null) {
+            relojEjecutando = true;
+
+            hiloReloj = new Thread(() -> {
+                System.out.println("Reloj global iniciando...");
+
+                while (relojEjecutando) {
+                    synchronized (pausaLock) {
+                        while (pausado) {
+                            try {
+                                pausaLock.wait();
+                            } catch (InterruptedException e) {
+                                // ignorar
+                            }
+                        }
+                    }
+
+                    int ticks = 1;
+                    if (motor == Motor.EVENTOS) {
+                        // reactivar e inyectar antes de calcular el salto: cambian las colas del próximo tick
+                        intentarReactivarSuspendidos();
+                        inyectarLlegadas(TiempoGlobal.get() + 1);
+                        ticks = calcularTicksHastaEvento();
+                        if (!esperarRitmo(ticks)) break;
+                        TiempoGlobal.avanzar(ticks);
+                    } else {
+                        if (!esperarRitmo(1)) break;
+
+                        TiempoGlobal.tick();
+
+                        // Intentar reactivar suspendidos si se liberó memoria
+                        intentarReactivarSuspendidos();
+                        inyectarLlegadas(TiempoGlobal.get());
+                    }
+
+                    // liberar a las CPUs y esperar a que todas terminen este tick
+                    if (!sincronizador.ejecutarTicks(ticks)) break;
+
+                    // las CPUs quedaron en la barrera: buen momento para una foto coherente
+                    publicarInstantanea(false);
+                }
+
+                System.out.println("Reloj global detenido.");
+            }, "Hilo-Reloj");
+
+            hiloReloj.start();
+        }
+    }
+
+    // Duerme lo que corresponde a 'ticks' según el factor de tiempo real.
+    // Retorna false si el reloj fue detenido durante la espera.
+    private boolean esperarRitmo(int ticks) {
+        double factor = factorTiempoReal;
+        if (factor <= 0) return true;
+        long nanos = (long) (ticks * 1_000_000_000L / factor);
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            return relojEjecutando;
+        }
+        return true;
+    }
+
+    // Cantidad de ticks que el motor por eventos puede saltar: hasta el primer fin
+    // de proceso o vencimiento de quantum en cualquier CPU. Si alguna CPU quedaría
+    // ociosa mientras otra tiene procesos en cola, avanza de a 1 para que el robo
+    // ocurra en el mismo tick que en el motor por tick. Con una fuente de carga el
+    // salto se corta justo antes de la próxima llegada.
+    private int calcularTicksHastaEvento() {
+        int salto = Integer.MAX_VALUE;
+        boolean hayOciosa = false;
+        boolean hayEnCola = false;
+        for (Procesador cpu : cpus) {
+            salto = Math.min(salto, cpu.rr.ticksHastaProximoEvento());
+            if (cpu.rr.estaOcioso()) hayOciosa = true;
+            else if (cpu.rr.hayProcesosEnCola()) hayEnCola = true;
+        }
+        if (hayOciosa && hayEnCola) return 1;
+
+        Proceso proxima = proximaLlegada;
+        if (proxima != null) {
+            // las llegadas de TiempoGlobal + 1 ya se inyectaron: el límite es >= 1
+            salto = Math.min(salto, proxima.getTiempoLlegada() - TiempoGlobal.get() - 1);
+        }
+        // sin trabajo conocido las llegadas son externas: avanzar de a 1
+        if (salto == Integer.MAX_VALUE) return 1;
+        return Math.max(1, salto);
+    }
+
+    // Fija la traza o generador a reproducir. Se lee el primer registro ya, así que
+    // conviene llamarlo antes de iniciar(); después solo la lee el hilo del reloj.
+    public void setFuenteCarga(FuenteCarga fuente) throws IOException {
+        this.fuenteCarga = fuente;
+        this.proximaLlegada = fuente == null ? null : fuente.siguiente();
+    }
+
+    // true mientras la fuente de carga tenga procesos por llegar
+    public boolean hayLlegadasPendientes() {
+        return proximaLlegada != null;
+    }
+
+    public long getLlegadasInyectadas() {
+        return llegadasInyectadas;
+    }
+
+    // Admite los procesos de la fuente con tiempoLlegada <= hasta, conservando su
+    // llegada original. Se llama solo desde el hilo del reloj. Si el pid de la traza
+    // ya lo tomó un proceso agregado a mano, el de la traza recibe uno libre.
+    private void inyectarLlegadas(int hasta) {
+        Proceso p = proximaLlegada;
+        if (p == null || p.getTiempoLlegada() > hasta) return;
+
+        long n = llegadasInyectadas;
+        try {
+            while (p != null && p.getTiempoLlegada() <= hasta) {
+                admitir(p, pidLibre(p.getId()));
+                n++;
+                p = fuenteCarga.siguiente();
+            }
+        } catch (IOException e) {
+            System.err.println("Error leyendo la carga, se detiene la reproducción: " + e.getMessage());
+            p = null;
+        }
+        llegadasInyectadas = n;
+        proximaLlegada = p;
+        if (p == null) cerrarFuenteCarga();
+    }
+
+    private void cerrarFuenteCarga() {
+        try {
+            fuenteCarga.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public UbicadorProcesos getUbicador() {
+        return ubicador;
+    }
+
+    public void setPoliticaUbicacion(UbicadorProcesos.Politica politica) {
+        ubicador.setPolitica(politica);
+    }
+
+    public void setPoliticaAdmision(IndiceSuspendidos.Admision admision) {
+        this.politicaAdmision = admision;
+    }
+
+    public void setMotor(Motor motor) {
+        this.motor = motor;
+    }
+
+    public Motor getMotor() {
+        return motor;
+    }
+
+    public SincronizadorTicks getSincronizador() {
+        return sincronizador;
+    }
+
+    // ticks simulados por segundo real; SIN_PAUSA (<= 0) desactiva la espera
+    public void setFactorTiempoReal(double factor) {
+        this.factorTiempoReal = factor;
+    }
+
+    public double getFactorTiempoReal() {
+        return factorTiempoReal;
+    }
+
+    public void detener() {
+        relojEjecutando = false;
+        if (hiloReloj != null) {
+            hiloReloj.interrupt();
+        }
+
+        sincronizador.detener();
+
+        for (Procesador cpu : cpus) {
+            cpu.detener();
+        }
+
+        for (Procesador cpu : cpus) {
+            try {
+                cpu.join(2000);
+            } catch (InterruptedException ignored) {
+            }
+        }
+        if (hiloReloj != null) {
+            try {
+                hiloReloj.join(1000);
+            } catch (InterruptedException ignored) {
+            }
+        }
+
+        // con las CPUs detenidas: terminar de escribir el historial (sigue legible)
+        escritorHistorial.cerrar();
+        if (registroEventos != null) {
+            registroEventos.cerrar();
+        }
+        // foto final, ya sin nada corriendo
+        publicarInstantanea(true);
+        jmx.quitar();
+        if (exportador != null) {
+            exportador.detener();
+            exportador = null;
+        }
+    }
+
+    // Sirve /metrics en localhost:puerto desde iniciar() hasta detener(). Se fija antes de iniciar().
+    public void setPuertoMetricas(int puerto) {
+        this.puertoMetricas = puerto;
+    }
+
+    // puerto en el que escucha el endpoint (-1 si no está levantado)
+    public int getPuertoMetricas() {
+        ExportadorPrometheus e = exportador;
+        return e == null ? -1 : e.getPuerto();
+    }
+
+    // Como los MBeans, si no se puede abrir el puerto la simulación sigue sin endpoint
+    private void iniciarExportador() {
+        if (puertoMetricas < 0 || exportador != null) return;
+        try {
+            exportador = new ExportadorPrometheus(this, puertoMetricas);
+            exportador.iniciar();
+        } catch (IOException e) {
+            exportador = null;
+            System.err.println("No se pudo abrir el endpoint de métricas en el puerto " + puertoMetricas + ": " + e.getMessage());
+        }
+    }
+
+    // ---- instantánea ----
+
+    // La última foto publicada (nunca null). La primera llamada activa la publicación.
+    public InstantaneaSistema getInstantanea() {
+        if (!instantaneaObservada) instantaneaObservada = true;
+        return instantanea;
+    }
+
+    // intervalo mínimo entre fotos; 0 = una por tick
+    public void setIntervaloInstantanea(long ms) {
+        this.intervaloInstantaneaNanos = Math.max(0, ms) * 1_000_000L;
+    }
+
+    // Solo el hilo del reloj (o quien detuvo todo)
+    private void publicarInstantanea(boolean forzar) {
+        if (!instantaneaObservada) return;
+        if (!anotandoCambios) {
+            // CPUs en la barrera: desde acá todo cambio queda anotado
+            for (Procesador cpu : cpus) cpu.rr.setAnotarCambios(true);
+            anotandoCambios = true;
+        }
+        long ahora = System.nanoTime();
+        if (!forzar && ahora - ultimaInstantaneaNanos < intervaloInstantaneaNanos) return;
+        ultimaInstantaneaNanos = ahora;
+        instantanea = tomarInstantanea();
+    }
+
+    // Pasa los cambios anotados al registro (antes de copiar los procesos: lo anotado
+    // ya está a la vista en las colas). -1 si todavía no se anotan.
+    private long publicarCambios() {
+        if (!anotandoCambios) return -1;
+        cambiosPorPublicar.limpiar();
+        boolean completos = true;
+        for (Procesador cpu : cpus) {
+            completos &= cpu.rr.tomarCambios(cambiosPorPublicar);
+        }
+        synchronized (cambiosPlanificador) {
+            for (int i = 0; i < cambiosPlanificador.tamano(); i++) cambiosPorPublicar.agregar(cambiosPlanificador.get(i));
+            cambiosPlanificador.limpiar();
+            completos &= !cambiosPlanificadorDesbordados;
+            cambiosPlanificadorDesbordados = false;
+        }
+        registroCambios.agregar(cambiosPorPublicar);
+        if (!completos) registroCambios.invalidar();
+        return registroCambios.getEscritos();
+    }
+
+    // llegadas, suspensiones y reactivaciones (desde cualquier hilo)
+    private void anotarCambio(int pid) {
+        if (!anotandoCambios) return;
+        synchronized (cambiosPlanificador) {
+            if (cambiosPlanificador.tamano() >= RoundRobin.MAX_CAMBIOS) cambiosPlanificadorDesbordados = true;
+            else cambiosPlanificador.agregar(pid);
+        }
+    }
+
+    private InstantaneaSistema tomarInstantanea() {
+        long secuenciaCambios = publicarCambios();
+        List<InstantaneaSistema.Cpu> estadoCpus = new ArrayList<>(cpus.size());
+        List<Proceso> terminadosRecientes = new ArrayList<>();
+        int i = 0;
+        for (Procesador cpu : cpus) {
+            Proceso actual = cpu.getProcesoActual();
+            Map<Integer, List<Proceso>> colas = new TreeMap<>();
+            for (Map.Entry<Integer, List<Proceso>> e : cpu.getColasSnapshot().entrySet()) {
+                List<Proceso> copias = new ArrayList<>(e.getValue().size());
+                for (Proceso p : e.getValue()) copias.add(p.copia());
+                colas.put(e.getKey(), Collections.unmodifiableList(copias));
+            }
+            estadoCpus.add(new InstantaneaSistema.Cpu(i++, actual == null ? null : actual.copia(),
+                    cpu.getTicksEnQuantum(), cpu.getTicksEjecutados(), cpu.getTicksTotales(),
+                    cpu.getCarga(), cpu.getTrabajoPendiente(), Collections.unmodifiableMap(colas)));
+            terminadosRecientes.addAll(cpu.getTerminadosRecientes(TERMINADOS_EN_INSTANTANEA));
+        }
+
+        List<Proceso> susp = new ArrayList<>();
+        synchronized (suspendidos) {
+            ListaEnteros filas = suspendidos.getFilas();
+            for (int k = 0; k < filas.tamano(); k++) susp.add(tabla.vista(filas.get(k)).copia());
+        }
+
+        List<AdministradorMemoria.Bloque> bloques = new ArrayList<>();
+        int ocupado, mayor, libres;
+        synchronized (memManager) {
+            for (AdministradorMemoria.Bloque b : memManager.getSnapshot()) {
+                bloques.add(new AdministradorMemoria.Bloque(b.inicio, b.tamano, b.proceso == null ? null : b.proceso.copia()));
+            }
+            ocupado = memManager.getOcupadoKB();
+            mayor = memManager.getMayorBloqueLibre();
+            libres = memManager.getCantidadBloquesLibres();
+        }
+
+        return new InstantaneaSistema(epocaInstantanea++, TiempoGlobal.get(), estadoCpus, susp, terminadosRecientes,
+                bloques, memManager.getTamTotalKB(), ocupado, mayor, libres,
+                llegadasInyectadas, cantidadTerminados.sum(), intentosRobo.sum(), robosExitosos.sum(),
+                procesosRobados.sum(), registroCambios, secuenciaCambios);
+    }
+
+    public void agregarProceso(Proceso p) {
+        int llegada = TiempoGlobal.get();
+        p.setTiempoLlegada(llegada);
+        ultimoPid.accumulateAndGet(p.getId(), Math::max);
+        admitir(p, p.getId());
+    }
+
+    // Pid que ningún proceso admitido usó (para agregar procesos a mano junto a una traza)
+    public int nuevoPid() {
+        return ultimoPid.incrementAndGet();
+    }
+
+    // el pid pedido si es mayor que todos los usados, o si no el siguiente libre
+    private int pidLibre(int pedido) {
+        while (true) {
+            int ultimo = ultimoPid.get();
+            if (pedido <= ultimo) return ultimoPid.incrementAndGet();
+            if (ultimoPid.compareAndSet(ultimo, pedido)) return pedido;
+        }
+    }
+
+    // Copia p (con el pid dado) a una fila de la tabla, reserva memoria y lo ubica en una CPU, o lo
+    // suspende si no hay memoria. p no queda retenido: desde acá se trabaja con la
+    // fila, y la vista v solo vive mientras el administrador de memoria la necesite.
+    private void admitir(Proceso p, int pid) {
+        int f = tabla.agregar(p, pid);
+        Proceso v = tabla.vista(f);
+        RegistroEventos reg = registroEventos;
+        if (reg != null) {
+            reg.registrar(v.getTiempoLlegada(), -1, v.getId(), RegistroEventos.Tipo.LLEGADA, v.getPrioridad());
+        }
+
+        // asignar y suspender bajo el mismo lock que la reactivación: si la memoria se
+        // libera justo después del fallo, el reloj ya verá la fila entre los suspendidos
+        synchronized (suspendidos) {
+            if (!memManager.asignar(v)) {
+                tabla.setEstado(f, Proceso.Estado.SUSPENDIDO);
+                suspendidos.agregar(f, v.getTamMemoriaKB());
+                suspensiones.increment();
+                if (reg != null) {
+                    reg.registrar(v.getTiempoLlegada(), -1, v.getId(), RegistroEventos.Tipo.SUSPENSION, v.getTamMemoriaKB());
+                }
+                anotarCambio(v.getId());
+                return;
+            }
+        }
+        if (reg != null) {
+            reg.registrar(v.getTiempoLlegada(), -1, v.getId(), RegistroEventos.Tipo.ASIGNACION_MEM, v.getTamMemoriaKB());
+        }
+
+        ubicador.elegir(cpus).agregarFila(f);
+        anotarCambio(v.getId());
+    }
+
+    public void procesoTerminado(Proceso p) {
+        cantidadTerminados.increment();
+        memManager.liberar(p);
+        RegistroEventos reg = registroEventos;
+        if (reg != null) {
+            reg.registrar(p.getTiempoFin(), -1, p.getId(), RegistroEventos.Tipo.LIBERACION_MEM, p.getTamMemoriaKB());
+        }
+        // No intentar reactivar aquí, se hace en el hilo del reloj
+    }
+
+    // Método separado que se llama desde el hilo del reloj.
+    // Solo trabaja si hubo liberaciones desde la última vez, y solo examina
+    // suspendidos que caben en el mayor hueco libre.
+    private void intentarReactivarSuspendidos() {
+        if (!memoriaLiberada.getAndSet(false)) return;
+
+        ListaEnteros porReactivar = new ListaEnteros();
+        IndiceSuspendidos.Admision admision = politicaAdmision;
+        RegistroEventos reg = registroEventos;
+
+        synchronized (suspendidos) {
+            while (!suspendidos.estaVacio()) {
+                int f = suspendidos.verCandidato(memManager.getMayorBloqueLibre(), admision);
+                if (f == TablaProcesos.NINGUNA || !memManager.asignar(tabla.vista(f))) break;
+                suspendidos.quitarCandidato(tabla.getMemoria(f));
+                tabla.setEstado(f, Proceso.Estado.LISTO);
+                porReactivar.agregar(f);
+                reactivaciones.increment();
+                if (reg != null) {
+                    reg.registrar(TiempoGlobal.get(), -1, tabla.getId(f), RegistroEventos.Tipo.REACTIVACION, tabla.getMemoria(f));
+                }
+            }
+        }
+
+        // Asignar fuera del bloque sincronizado de suspendidos
+        for (int k = 0; k < porReactivar.tamano(); k++) {
+            int f = porReactivar.get(k);
+            int pid = tabla.getId(f); // antes de ubicarla: al terminar, la fila se reutiliza
+            ubicador.elegir(cpus).agregarFila(f);
+            anotarCambio(pid);
+        }
+    }
+
+    // Roba un lote (hasta la mitad de lo encolado) de otro CPU y lo pasa al ladrón.
+    // La víctima se elige por "potencia de dos": se sondean dos CPUs al azar y se
+    // toma la más cargada, sin recorrer todas. Retorna la cantidad de procesos movidos.
+    public int intentarRobar(Procesador thief) {
+        intentosRobo.increment();
+
+        Procesador origen = elegirVictima(thief);
+        if (origen == null || origen.getCarga() == 0) return 0;
+
+        int n = thief.rr.robarLoteDe(origen.rr);
+        if (n > 0) {
+            robosExitosos.increment();
+            procesosRobados.add(n);
+        }
+        return n;
+    }
+
+    private Procesador elegirVictima(Procesador thief) {
+        int total = cpus.size();
+        if (total < 2) return null;
+        if (total == 2) return cpus.get(0) == thief ? cpus.get(1) : cpus.get(0);
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        Procesador a = otraCpuAlAzar(thief, rnd);
+        Procesador b = otraCpuAlAzar(thief, rnd);
+        return a.getCarga() >= b.getCarga() ? a : b;
+    }
+
+    private Procesador otraCpuAlAzar(Procesador thief, ThreadLocalRandom rnd) {
+        Procesador c;
+        do {
+            c = cpus.get(rnd.nextInt(cpus.size()));
+        } while (c == thief);
+        return c;
+    }
+
+    public long getIntentosRobo() {
+        return intentosRobo.sum();
+    }
+
+    public long getRobosExitosos() {
+        return robosExitosos.sum();
+    }
+
+    public long getProcesosRobados() {
+        return procesosRobados.sum();
+    }
+
+    // procesos que quedaron suspendidos por falta de memoria al llegar
+    public long getSuspensiones() {
+        return suspensiones.sum();
+    }
+
+    public long getReactivaciones() {
+        return reactivaciones.sum();
+    }
+
+    // tamaño promedio de los lotes robados
+    public double getPromedioLoteRobo() {
+        long exitos = robosExitosos.sum();
+        return exitos == 0 ? 0 : (double) procesosRobados.sum() / exitos;
+    }
+
+    public MetricasLatencia getLatencias() {
+        return latencias;
+    }
+
+    // false: los procesos terminados solo se cuentan en las latencias y no se listan
+    // en getTodosTerminados (pensado para corridas largas)
+    public void setRetenerTerminados(boolean retener) {
+        this.retenerTerminados = retener;
+    }
+
+    public boolean isRetenerTerminados() {
+        return retenerTerminados;
+    }
+
+    // sin copiar las listas de terminados (para esperar el fin de una corrida)
+    public long getCantidadTerminados() {
+        return cantidadTerminados.sum();
+    }
+
+    public int getCantidadSuspendidos() {
+        synchronized (suspendidos) {
+            return suspendidos.getCantidad();
+        }
+    }
+
+    // Últimos terminados de cada CPU (a lo sumo Procesador.CAPACIDAD_RECIENTES por CPU)
+    public List<Proceso> getTerminadosRecientes() {
+        List<Proceso> r = new ArrayList<>();
+        for (Procesador cpu : cpus) {
+            r.addAll(cpu.getTerminadosRecientes());
+        }
+        return r;
+    }
+
+    // Historial completo (lee lo que está en disco): pensado para el informe final
+    public List<Proceso> getTodosTerminados() {
+        List<Proceso> r = new ArrayList<>();
+        for (Procesador cpu : cpus) {
+            r.addAll(cpu.getTerminados());
+        }
+        return r;
+    }
+
+    public List<Proceso> getProcesosActivos() {
+        Set<Proceso> set = new HashSet<>();
+
+        for (Procesador cpu : cpus) {
+            Proceso actual = cpu.getProcesoActual();
+            if (actual != null) set.add(actual);
+
+            Map<Integer, java.util.List<Proceso>> snap = cpu.getColasSnapshot();
+            for (java.util.List<Proceso> q : snap.values()) {
+                set.addAll(q);
+            }
+        }
+
+        synchronized (suspendidos) {
+            ListaEnteros filas = suspendidos.getFilas();
+            for (int k = 0; k < filas.tamano(); k++) set.add(tabla.vista(filas.get(k)));
+        }
+
+        return new ArrayList<>(set);
+    }
+
+    public void agregarProcesoNuevo(String idStr, int prioridad, int llegada, int cpu, int memKB) {
+        int id;
+        try {
+            id = Integer.parseInt(idStr);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("El ID debe ser numérico.");
+        }
+
+        Proceso p = new Proceso(id, prioridad, llegada, cpu, memKB);
+        agregarProceso(p);
+    }
+
+    public void pausar() {
+        synchronized (pausaLock) {
+            pausado = true;
+        }
+    }
+
+    public void reanudar() {
+        synchronized (pausaLock) {
+            pausado = false;
+            pausaLock.notifyAll();
+        }
+    }
+}
\ No newline at end of file
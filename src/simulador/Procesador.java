@@ -0,0 +1,192 @@
+package simulador;
+
+import java.util.List;
+import java.util.Map;
+
+public class Procesador extends Thread {
+
+    private final int id;
+    public final RoundRobin rr;
+    private volatile boolean ejecutando = true;
+    // Procesos que terminaron en esta CPU (solo si el planificador retiene terminados):
+    // los últimos en memoria, el resto en disco
+    public static final int CAPACIDAD_RECIENTES = 4096;
+    private final HistorialTerminados terminados;
+    // latencias de lo que terminó en esta CPU (siempre, sin retener procesos)
+    private final MetricasLatencia.Registro latencias = new MetricasLatencia.Registro();
+
+    // Estadísticas de ticks (solo las escribe esta CPU; volatile para leerlas sin lock)
+    private volatile long ticksEjecutados = 0; // cuántos ticks con trabajo
+    private volatile long ticksTotales = 0;    // cuántos ticks totales (incluye idle)
+
+    // Barrera compartida con el reloj global: un tick por fase
+    private final SincronizadorTicks sincronizador;
+
+    // Referencia al planificador para solicitar robo de trabajo y notificar fin
+    private PlanificadorMultiprocesador planificador;
+
+    // Registro de eventos compartido (null = sin registro)
+    private RegistroEventos registro = null;
+
+    public Procesador(int id, int quantum, SincronizadorTicks sincronizador) {
+        this(id, quantum, sincronizador, new TablaProcesos(), new EscritorHistorial());
+    }
+
+    public Procesador(int id, int quantum, SincronizadorTicks sincronizador, TablaProcesos tabla,
+                      EscritorHistorial escritor) {
+        this.id = id;
+        this.rr = new RoundRobin(quantum, tabla);
+        this.terminados = new HistorialTerminados(id, CAPACIDAD_RECIENTES, escritor);
+        this.sincronizador = sincronizador;
+
+        // no fijamos listener aquí porque el planificador puede necesitarse para liberar memoria
+        // lo configuramos en setPlanificador para que incluya ambas acciones.
+    }
+
+    // Setter para que el planificador establezca la referencia (se llama desde el planificador)
+    public void setPlanificador(PlanificadorMultiprocesador plan) {
+        this.planificador = plan;
+
+        // establecer listener que registra latencias, guarda en terminados y notifica al planificador
+        rr.setOnFinishListener(proceso -> {
+            latencias.registrar(proceso);
+            boolean retener = planificador == null || planificador.isRetenerTerminados();
+            if (retener) {
+                terminados.agregar(proceso);
+            }
+            if (planificador != null) {
+                planificador.procesoTerminado(proceso);
+            }
+            // el historial guarda una copia: la fila ya no hace falta (la memoria se liberó arriba)
+            rr.getTabla().liberar(proceso.getFila());
+        });
+    }
+
+    // antes de start(): el RR registra despachos, expropiaciones, fines y robos
+    public void setRegistroEventos(RegistroEventos registro) {
+        this.registro = registro;
+        rr.setRegistroEventos(registro, id);
+    }
+
+    // delega al RoundRobin (thread-safe)
+    public void agregarProceso(Proceso p) {
+        rr.agregarProceso(p);
+    }
+
+    // proceso que ya ocupa la fila f de la tabla compartida
+    public void agregarFila(int f) {
+        rr.agregarFila(f);
+    }
+
+    // permite asignar un proceso robado inmediatamente
+    public void asignarProcesoRobado(Proceso p) {
+        rr.asignarProcesoRobado(p);
+    }
+
+    // Exponer carga (colas + actual)
+    public int getCarga() {
+        return rr.getCantidadProcesos();
+    }
+
+    // Ticks de CPU pendientes (suma de tiempoRestante de colas + actual)
+    public long getTrabajoPendiente() {
+        return rr.getTrabajoPendiente();
+    }
+
+    public void detener() {
+        ejecutando = false;
+        // despertamos por si está esperando en la barrera
+        this.interrupt();
+    }
+
+    // Todos los terminados en esta CPU, incluidos los que ya pasaron a disco
+    // (para informes finales: el costo crece con la corrida)
+    public List<Proceso> getTerminados() {
+        return terminados.getTodos();
+    }
+
+    // Los últimos CAPACIDAD_RECIENTES terminados (costo constante, para la GUI)
+    public List<Proceso> getTerminadosRecientes() {
+        return terminados.getRecientes();
+    }
+
+    public List<Proceso> getTerminadosRecientes(int max) {
+        return terminados.getRecientes(max);
+    }
+
+    public MetricasLatencia.Registro getLatencias() {
+        return latencias;
+    }
+
+    public long getTicksEjecutados() {
+        return ticksEjecutados;
+    }
+
+    public long getTicksTotales() {
+        return ticksTotales;
+    }
+
+    // Exponer tiempo global actual para que el planificador fije la llegada en el mismo reloj
+    public int getTiempoGlobal() {
+        return TiempoGlobal.get();
+    }
+
+    @Override
+    public void run() {
+        if (registro != null) registro.registrar(TiempoGlobal.get(), id, -1, RegistroEventos.Tipo.CPU_INICIO, 0);
+        while (ejecutando) {
+            // Esperar al siguiente tick global
+            try {
+                if (!sincronizador.esperarInicioTick(id)) break;
+            } catch (InterruptedException e) {
+                break; // solo se interrumpe al detener
+            }
+
+            if (!ejecutando) break;
+
+            // En cada tick global ejecutamos exactamente 1 unidad del RR
+            // (o n ticks seguidos si el motor por eventos saltó el reloj)
+            int n = sincronizador.getTicksEnFase();
+            boolean hizoTrabajo;
+            if (n == 1) {
+                hizoTrabajo = rr.ejecutarUnTick();
+                ticksTotales++;
+                if (hizoTrabajo) ticksEjecutados++;
+            } else {
+                int hechos = rr.ejecutarTicks(TiempoGlobal.get() - n + 1, n);
+                ticksTotales += n;
+                ticksEjecutados += hechos;
+                hizoTrabajo = hechos == n; // el último tick del tramo fue ocioso
+            }
+
+            // Si no hizo trabajo (en el último tick), intentar robar de otro CPU;
+            // lo robado se ejecuta a partir del próximo tick
+            if (!hizoTrabajo) {
+                planificador.intentarRobar(this);
+            }
+
+            // avisar al reloj que este CPU completó el tick
+            try {
+                if (!sincronizador.terminarTick(id)) break;
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        if (registro != null) registro.registrar(TiempoGlobal.get(), id, -1, RegistroEventos.Tipo.CPU_FIN, 0);
+    }
+    // Métodos para la GUI
+    // Retorna snapshot de las colas del RoundRobin de este procesador
+    public Map<Integer, java.util.List<Proceso>> getColasSnapshot() {
+        return rr.getColasSnapshot();
+    }
+
+    // Retorna el proceso que está ejecutando actualmente (puede ser null)
+    public Proceso getProcesoActual() {
+        return rr.getProcesoActual();
+    }
+
+    // Retorna ticks consumidos en el quantum actual (útil para mostrar)
+    public int getTicksEnQuantum() {
+        return rr.getTicksEnQuantum();
+    }
+}
@@ -0,0 +1,290 @@
+package simulador;
+
+public class Proceso {
+
+    public enum Estado {
+        NUEVO,
+        LISTO,
+        EJECUTANDO,
+        SUSPENDIDO,
+        TERMINADO
+    }
+
+    // Un Proceso creado con new guarda sus datos en los campos de abajo y no depende
+    // de nadie: el planificador copia esos valores a una fila de su TablaProcesos al
+    // admitirlo y no se queda con el objeto. Las vistas (TablaProcesos.vista) leen la
+    // fila de un proceso admitido; identidad es el sello que la fila tenía al crear la
+    // vista, así que dos vistas del mismo proceso son iguales y una fila reutilizada
+    // por otro proceso no. Cada lectura de una vista se hace con el monitor de la
+    // tabla y rechequea el sello: si la fila ya es de otro proceso (o quedó libre),
+    // la vista responde con los últimos valores que copió de ella.
+    private final TablaProcesos tabla;
+    private final int fila;
+    private final int identidad;
+
+    private final int id;
+    private int prioridad;
+
+    private int tiempoLlegada; // asignado por el planificador al agregar
+    private int tiempoInicio;
+    private int tiempoFin;
+
+    private final int tiempoCPU; // ráfaga total requerida
+    private int tiempoRestante; // para RR
+
+    private Estado estado;
+
+    // nuevo: tamaño de memoria en KB
+    private final int tamMemoriaKB;
+
+    public Proceso(int id, int prioridad, int tiempoLlegada, int tiempoCPU) {
+        this(id, prioridad, tiempoLlegada, tiempoCPU, 0);
+    }
+
+    public Proceso(int id, int prioridad, int tiempoLlegada, int tiempoCPU, int tamMemoriaKB) {
+        this.tabla = null;
+        this.fila = TablaProcesos.NINGUNA;
+        this.identidad = 0;
+        this.id = id;
+        this.prioridad = prioridad;
+        this.tiempoLlegada = tiempoLlegada;
+        this.tiempoCPU = tiempoCPU;
+        this.tiempoRestante = tiempoCPU;
+
+        this.estado = Estado.NUEVO;
+        this.tiempoInicio = -1;
+        this.tiempoFin = -1;
+
+        this.tamMemoriaKB = Math.max(0, tamMemoriaKB);
+    }
+
+    // vista de una fila ocupada (ver TablaProcesos.vista): copia los valores actuales
+    Proceso(TablaProcesos tabla, int fila) {
+        this.tabla = tabla;
+        this.fila = fila;
+        this.identidad = tabla.getIdentidad(fila);
+        this.id = tabla.getId(fila);
+        this.tiempoCPU = tabla.getRafaga(fila);
+        this.tamMemoriaKB = tabla.getMemoria(fila);
+        this.prioridad = tabla.getPrioridad(fila);
+        this.tiempoLlegada = tabla.getLlegada(fila);
+        this.tiempoInicio = tabla.getInicio(fila);
+        this.tiempoFin = tabla.getFin(fila);
+        this.tiempoRestante = tabla.getRestante(fila);
+        this.estado = tabla.getEstado(fila);
+    }
+
+    // Copia suelta con los valores de este momento (no queda vinculada a ninguna tabla)
+    public Proceso copia() {
+        refrescar();
+        Proceso c = new Proceso(id, prioridad, tiempoLlegada, tiempoCPU, tamMemoriaKB);
+        c.tiempoInicio = tiempoInicio;
+        c.tiempoFin = tiempoFin;
+        c.tiempoRestante = tiempoRestante;
+        c.estado = estado;
+        return c;
+    }
+
+    // con el monitor de la tabla tomado: la fila sigue siendo de este proceso
+    private boolean vigente() {
+        return tabla.getIdentidad(fila) == identidad;
+    }
+
+    // Trae todos los valores de la fila de una vez (misma foto para copia y derivados)
+    private void refrescar() {
+        if (tabla == null) return;
+        synchronized (tabla) {
+            if (!vigente()) return;
+            prioridad = tabla.getPrioridad(fila);
+            tiempoLlegada = tabla.getLlegada(fila);
+            tiempoInicio = tabla.getInicio(fila);
+            tiempoFin = tabla.getFin(fila);
+            tiempoRestante = tabla.getRestante(fila);
+            estado = tabla.getEstado(fila);
+        }
+    }
+
+    // null si no es una vista
+    public TablaProcesos getTabla() {
+        return tabla;
+    }
+
+    public int getFila() {
+        return fila;
+    }
+
+    int getIdentidad() {
+        return identidad;
+    }
+
+    // getters 
+
+    public int getId() {
+        return id;
+    }
+
+    public int getPrioridad() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) prioridad = tabla.getPrioridad(fila);
+            }
+        }
+        return prioridad;
+    }
+
+    public void setPrioridad(int prioridad) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tabla.setPrioridad(fila, prioridad);
+            }
+        }
+        this.prioridad = prioridad;
+    }
+
+    public Estado getEstado() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) estado = tabla.getEstado(fila);
+            }
+        }
+        return estado;
+    }
+
+    public void setEstado(Estado nuevoEstado) {
+        cambiarEstado(nuevoEstado);
+    }
+
+    public int getTiempoLlegada() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tiempoLlegada = tabla.getLlegada(fila);
+            }
+        }
+        return tiempoLlegada;
+    }
+
+    public void setTiempoLlegada(int tiempoLlegada) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tabla.setLlegada(fila, tiempoLlegada);
+            }
+        }
+        this.tiempoLlegada = tiempoLlegada;
+    }
+
+    public int getTiempoInicio() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tiempoInicio = tabla.getInicio(fila);
+            }
+        }
+        return tiempoInicio;
+    }
+
+    public void setTiempoInicio(int tiempoInicio) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tabla.setInicio(fila, tiempoInicio);
+            }
+        }
+        this.tiempoInicio = tiempoInicio;
+    }
+
+    public int getTiempoFin() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tiempoFin = tabla.getFin(fila);
+            }
+        }
+        return tiempoFin;
+    }
+
+    public void setTiempoFin(int tiempoFin) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tabla.setFin(fila, tiempoFin);
+            }
+        }
+        this.tiempoFin = tiempoFin;
+    }
+
+    public int getTiempoCPU() {
+        return tiempoCPU;
+    }
+
+    public int getTiempoRestante() {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tiempoRestante = tabla.getRestante(fila);
+            }
+        }
+        return tiempoRestante;
+    }
+
+    public void consumirCPU(int unidades) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) {
+                    tiempoRestante = Math.max(0, tabla.getRestante(fila) - unidades);
+                    tabla.setRestante(fila, tiempoRestante);
+                    return;
+                }
+            }
+        }
+        tiempoRestante = Math.max(0, tiempoRestante - unidades);
+    }
+
+    public void cambiarEstado(Estado nuevoEstado) {
+        if (tabla != null) {
+            synchronized (tabla) {
+                if (vigente()) tabla.setEstado(fila, nuevoEstado);
+            }
+        }
+        this.estado = nuevoEstado;
+    }
+
+    // memoria 
+    public int getTamMemoriaKB() {
+        return tamMemoriaKB;
+    }
+
+    // tiempos derivados 
+
+    public int getTiempoRespuesta() {
+        refrescar();
+        if (tiempoInicio == -1 || tiempoLlegada == -1) return -1;
+        return tiempoInicio - tiempoLlegada;
+    }
+
+    public int getTiempoRetorno() {
+        refrescar();
+        if (tiempoFin == -1 || tiempoLlegada == -1) return -1;
+        return tiempoFin - tiempoLlegada;
+    }
+
+    public int getTiempoEspera() {
+        int retorno = getTiempoRetorno();
+        if (retorno == -1) return -1;
+        return retorno - tiempoCPU;
+    }
+
+    // Identidad de objeto, salvo que dos vistas del mismo proceso admitido (misma
+    // fila y mismo sello) son el mismo proceso.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (tabla == null || !(o instanceof Proceso)) return false;
+        Proceso otro = (Proceso) o;
+        return otro.tabla == tabla && otro.fila == fila && otro.identidad == identidad;
+    }
+
+    @Override
+    public int hashCode() {
+        return tabla == null ? System.identityHashCode(this) : identidad;
+    }
+
+    @Override
+    public String toString() {
+        return "P" + id + "(R=" + getTiempoRestante() + ",Pr=" + getPrioridad() + ",M=" + tamMemoriaKB + "KB)";
+    }
+}
@@ -0,0 +1,59 @@
+package simulador;
+
+// Pids de procesos cuyos datos cambiaron (llegada, despacho, consumo de CPU,
+// expropiación, fin, suspensión, reactivación), en un anillo numerado con una
+// secuencia que solo crece. Lo escribe únicamente el hilo del reloj al armar cada
+// InstantaneaSistema, que guarda hasta qué secuencia incluye; un lector que ya
+// aplicó una foto pide lo agregado desde entonces y actualiza solo esos pids.
+//
+// Si el lector se atrasó más que la capacidad del anillo, o si en algún intervalo
+// se perdieron cambios (una CPU llenó su lista), copiar devuelve false y el lector
+// tiene que volver a mirar todo.
+public class RegistroCambios {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 1 << 18;
+
+    private final int[] pids;
+    private final int mascara;
+    // escritos: secuencia del próximo pid; validosDesde: lo anterior ya no sirve
+    private volatile long escritos = 0;
+    private volatile long validosDesde = 0;
+
+    public RegistroCambios(int capacidad) {
+        int n = Integer.highestOneBit(Math.max(16, capacidad));
+        this.pids = new int[n];
+        this.mascara = n - 1;
+    }
+
+    // ---- lado reloj ----
+
+    public void agregar(ListaEnteros lista) {
+        long e = escritos;
+        for (int i = 0; i < lista.tamano(); i++) {
+            pids[(int) (e++ & mascara)] = lista.get(i);
+        }
+        escritos = e;
+    }
+
+    // Se perdieron cambios: nadie puede seguir desde una secuencia anterior
+    public void invalidar() {
+        validosDesde = escritos;
+    }
+
+    public long getEscritos() {
+        return escritos;
+    }
+
+    // ---- lado lector ----
+
+    // Agrega a 'destino' los pids con secuencia en [desde, hasta). false si parte de
+    // ese tramo ya no está (destino puede quedar a medio llenar).
+    public boolean copiar(long desde, long hasta, ListaEnteros destino) {
+        if (desde < validosDesde || hasta - desde > pids.length) return false;
+        for (long s = desde; s < hasta; s++) {
+            destino.agregar(pids[(int) (s & mascara)]);
+        }
+        // si mientras copiábamos el reloj dio la vuelta sobre lo leído, no sirve
+        return escritos - pids.length <= desde && desde >= validosDesde;
+    }
+}
@@ -0,0 +1,149 @@
+package simulador;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Registro binario de eventos de planificación en un archivo mapeado en memoria,
+// solo de agregado. Cada evento ocupa REGISTRO bytes:
+//   tick (int) | pid (int) | argumento (int) | cpu (short) | tipo (byte) | 0 (byte)
+// Cabecera de CABECERA bytes: MAGIA, VERSION, REGISTRO, cantidad de eventos (long,
+// se escribe al cerrar). Tipo 0 = lugar sin escribir: si la cabecera no tiene la
+// cantidad (el proceso murió sin cerrar) marca el final.
+//
+// Cualquier hilo registra sin locks ni objetos nuevos: reserva su lugar con un
+// getAndAdd sobre la posición y escribe con puts absolutos en el segmento mapeado
+// que le toca. Solo mapear un segmento nuevo (cada SEGMENTO bytes) toma el monitor.
+// Ver LectorEventos para decodificarlo.
+public class RegistroEventos {
+
+    public enum Tipo {
+        LLEGADA,          // arg: prioridad
+        ASIGNACION_MEM,   // arg: KB asignados
+        SUSPENSION,       // arg: KB pedidos
+        REACTIVACION,     // arg: KB asignados
+        DESPACHO,         // arg: ráfaga restante al tomar la CPU
+        EXPROPIACION,     // arg: ráfaga restante al vencer el quantum
+        FIN,              // arg: tiempo de retorno
+        LIBERACION_MEM,   // arg: KB liberados
+        ROBO,             // cpu: ladrón, arg: CPU víctima
+        CPU_INICIO,
+        CPU_FIN;
+
+        public byte codigo() {
+            return (byte) (ordinal() + 1);
+        }
+
+        public static Tipo desdeCodigo(int codigo) {
+            Tipo[] tipos = values();
+            return codigo >= 1 && codigo <= tipos.length ? tipos[codigo - 1] : null;
+        }
+    }
+
+    public static final int MAGIA = 0x52524556; // "RREV"
+    public static final int VERSION = 1;
+    public static final int REGISTRO = 16;
+    public static final int CABECERA = 32;
+    static final long SEGMENTO = 64L << 20;
+    private static final int MAX_SEGMENTOS = 1024; // 64 GB
+
+    private final FileChannel canal;
+    private final AtomicReferenceArray<MappedByteBuffer> segmentos = new AtomicReferenceArray<>(MAX_SEGMENTOS);
+    private final AtomicLong posicion = new AtomicLong(CABECERA);
+    private final AtomicLong descartados = new AtomicLong();
+    private volatile boolean cerrado = false;
+    // Al cerrar la posición salta acá: quien reserve después (aunque haya pasado el
+    // chequeo de cerrado) cae fuera del archivo y no escribe.
+    private static final long POSICION_CERRADO = Long.MAX_VALUE / 2;
+    private volatile long fin = -1; // posición final, fijada al cerrar
+
+    public RegistroEventos(Path ruta) throws IOException {
+        canal = FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer primero = mapear(0);
+        primero.putInt(0, MAGIA);
+        primero.putInt(4, VERSION);
+        primero.putInt(8, REGISTRO);
+        primero.putLong(16, 0);
+    }
+
+    public void registrar(int tick, int cpu, int pid, Tipo tipo, int argumento) {
+        if (cerrado) return;
+        long pos = posicion.getAndAdd(REGISTRO);
+        if (pos >= POSICION_CERRADO) return;
+        int seg = (int) (pos / SEGMENTO);
+        if (seg >= MAX_SEGMENTOS) {
+            descartados.incrementAndGet();
+            return;
+        }
+        MappedByteBuffer b = segmentos.get(seg);
+        if (b == null) {
+            b = mapear(seg);
+            if (b == null) {
+                descartados.incrementAndGet();
+                return;
+            }
+        }
+        int i = (int) (pos % SEGMENTO);
+        b.putInt(i, tick);
+        b.putInt(i + 4, pid);
+        b.putInt(i + 8, argumento);
+        b.putShort(i + 12, (short) cpu);
+        b.put(i + 14, tipo.codigo()); // el tipo va al final: distinto de 0 = registro completo
+    }
+
+    private synchronized MappedByteBuffer mapear(int seg) {
+        MappedByteBuffer b = segmentos.get(seg);
+        if (b != null) return b;
+        try {
+            b = canal.map(FileChannel.MapMode.READ_WRITE, seg * SEGMENTO, SEGMENTO);
+            b.order(ByteOrder.BIG_ENDIAN);
+            segmentos.set(seg, b);
+            return b;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public long getCantidad() {
+        long f = fin;
+        long p = f >= 0 ? f : Math.min(posicion.get(), MAX_SEGMENTOS * SEGMENTO);
+        return (p - CABECERA) / REGISTRO - descartados.get();
+    }
+
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    // Anota la cantidad, baja los segmentos a disco y recorta el archivo al tamaño
+    // usado (si el sistema lo permite con el mapeo abierto; si no, el lector se guía
+    // por la cantidad de la cabecera). No hace falta que los escritores estén
+    // detenidos: la posición salta a POSICION_CERRADO de una vez, así que lo que ya
+    // se reservó queda dentro del archivo recortado y lo que se reserve después no
+    // se escribe. Un lugar reservado que no llegue a escribirse queda con tipo 0 y
+    // el lector lo saltea.
+    public synchronized void cerrar() {
+        if (cerrado) return;
+        cerrado = true;
+        long fin = Math.min(posicion.getAndSet(POSICION_CERRADO), MAX_SEGMENTOS * SEGMENTO);
+        this.fin = fin;
+        segmentos.get(0).putLong(16, (fin - CABECERA) / REGISTRO);
+        for (int i = 0; i < MAX_SEGMENTOS; i++) {
+            MappedByteBuffer b = segmentos.get(i);
+            if (b != null) b.force();
+        }
+        try {
+            canal.truncate(fin);
+        } catch (IOException ignored) {
+        }
+        try {
+            canal.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package simulador;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RoundRobin {
+
+    // Niveles de prioridad soportados: 0..NIVELES-1 (número menor = más prioritario).
+    // Prioridades fuera de rango se saturan al nivel más cercano.
+    public static final int NIVELES = 64;
+
+    // Multicolas por prioridad (índice: nivel → deque de robo) y bitmap de ocupación:
+    // el bit i está encendido si el nivel i puede tener procesos. Solo el dueño (la
+    // CPU de este RR) agrega y escribe el bitmap; los ladrones sacan por CAS y pueden
+    // dejar un nivel vacío con el bit encendido, que el dueño limpia al verlo vacío.
+    private final DequeRobo[] colasListos = new DequeRobo[NIVELES];
+    private volatile long ocupacion = 0;
+    private final int quantum;
+
+    // Datos de los procesos; colas, entrantes y actual guardan solo su fila
+    private final TablaProcesos tabla;
+
+    // Procesos agregados desde otros hilos (ubicación, reactivación). El dueño los
+    // pasa a los deques al comienzo de cada tick, antes de seleccionar.
+    private final ColaEntrantes entrantes = new ColaEntrantes();
+
+    // Fila del proceso en ejecución (NINGUNA si no hay) y ticks que ya le dimos en su
+    // quantum. Solo los modifica el dueño; volatile para que la GUI los lea sin lock.
+    private volatile int actual = TablaProcesos.NINGUNA;
+    private volatile int ticksEnQuantum = 0;
+
+    // Procesos en colas + entrantes + actual. Se actualiza en cada cambio y se lee
+    // sin lock para que la ubicación y el robo no recorran las colas.
+    private final AtomicInteger carga = new AtomicInteger();
+    // Suma de tiempoRestante de esos mismos procesos (para ubicar por trabajo pendiente)
+    private final AtomicLong trabajoPendiente = new AtomicLong();
+
+    private java.util.function.Consumer<Proceso> onFinishListener;
+
+    // buffer reutilizado para los lotes robados (solo el dueño)
+    private final ListaEnteros loteRobo = new ListaEnteros();
+
+    // Registro de eventos (null = sin registro) y CPU con la que firma este RR.
+    // Se fijan antes de arrancar la CPU dueña.
+    private RegistroEventos registro = null;
+    private int cpuId = -1;
+
+    // Historial del Gantt de esta CPU (null = no se guarda). Se fija antes de arrancar.
+    private HistorialGantt.Cpu gantt = null;
+
+    // Pids que ejecutaron desde la última foto del planificador (null = no se anotan;
+    // ver RegistroCambios). Solo los escribe el dueño, una vez por tramo y sin repetir
+    // el último; el reloj los toma con la CPU detenida en la barrera. Pasado
+    // MAX_CAMBIOS se dejan de anotar y la foto avisa que están incompletos.
+    static final int MAX_CAMBIOS = 1 << 16;
+    private volatile ListaEnteros cambios = null;
+    private int ultimoCambio = Integer.MIN_VALUE;
+    private boolean cambiosDesbordados = false;
+
+    public RoundRobin(int quantum) {
+        this(quantum, new TablaProcesos());
+    }
+
+    // Los RR entre los que se roba trabajo deben compartir la tabla
+    public RoundRobin(int quantum, TablaProcesos tabla) {
+        this.quantum = quantum;
+        this.tabla = tabla;
+        for (int i = 0; i < NIVELES; i++) {
+            colasListos[i] = new DequeRobo();
+        }
+    }
+
+    public TablaProcesos getTabla() {
+        return tabla;
+    }
+
+    public void setHistorialGantt(HistorialGantt.Cpu gantt) {
+        this.gantt = gantt;
+    }
+
+    // Con la CPU detenida (lo llama el reloj en la barrera)
+    public void setAnotarCambios(boolean anotar) {
+        cambios = anotar ? new ListaEnteros() : null;
+        ultimoCambio = Integer.MIN_VALUE;
+        cambiosDesbordados = false;
+    }
+
+    // Con la CPU detenida: pasa los pids anotados a 'destino' y vacía la lista.
+    // false si se perdió alguno.
+    public boolean tomarCambios(ListaEnteros destino) {
+        ListaEnteros cs = cambios;
+        if (cs == null) return true;
+        for (int i = 0; i < cs.tamano(); i++) destino.agregar(cs.get(i));
+        cs.limpiar();
+        ultimoCambio = Integer.MIN_VALUE;
+        boolean completos = !cambiosDesbordados;
+        cambiosDesbordados = false;
+        return completos;
+    }
+
+    private void anotarCambio(ListaEnteros cs, int pid) {
+        if (pid == ultimoCambio) return;
+        if (cs.tamano() >= MAX_CAMBIOS) {
+            cambiosDesbordados = true;
+            return;
+        }
+        cs.agregar(pid);
+        ultimoCambio = pid;
+    }
+
+    public void setRegistroEventos(RegistroEventos registro, int cpuId) {
+        this.registro = registro;
+        this.cpuId = cpuId;
+    }
+
+    // Agregar proceso (desde cualquier hilo). Si no es una vista de la tabla se copia
+    // a una fila nueva; p no queda retenido.
+    public void agregarProceso(Proceso p) {
+        agregarFila(tabla.filaDe(p));
+    }
+
+    // Agregar un proceso que ya ocupa la fila f de la tabla (desde cualquier hilo)
+    public void agregarFila(int f) {
+        tabla.setEstado(f, Proceso.Estado.LISTO);
+        carga.incrementAndGet();
+        trabajoPendiente.addAndGet(tabla.getRestante(f));
+        entrantes.agregar(f);
+    }
+
+    // Devuelve la cantidad total de procesos en las colas + el actual si existe (O(1), sin lock)
+    public int getCantidadProcesos() {
+        return carga.get();
+    }
+
+    // Ticks de CPU que faltan para vaciar este RR (O(1), sin lock)
+    public long getTrabajoPendiente() {
+        return trabajoPendiente.get();
+    }
+
+    // Procesos listos en un nivel de prioridad (O(1), sin lock; no cuenta los entrantes
+    // que el dueño todavía no pasó a las colas)
+    public int getLongitudCola(int nivel) {
+        return colasListos[nivel].tamano();
+    }
+
+    // Selecciona el siguiente proceso de las colas por prioridad (si actual == null)
+    private void seleccionarSiguienteSiNecesario() {
+        drenarEntrantes();
+        if (actual != TablaProcesos.NINGUNA) return;
+        long bits = ocupacion;
+        while (bits != 0) {
+            int nivel = Long.numberOfTrailingZeros(bits);
+            int f = colasListos[nivel].sacar();
+            if (f != TablaProcesos.NINGUNA) {
+                if (colasListos[nivel].estaVacio()) ocupacion = bits & ~(1L << nivel);
+                actual = f;
+                ticksEnQuantum = 0;
+                return;
+            }
+            // vaciado por ladrones
+            bits &= ~(1L << nivel);
+            ocupacion = bits;
+        }
+    }
+
+    // -----------------------
+    // Colas por nivel (solo el dueño)
+    // -----------------------
+
+    static int nivelDe(int prioridad) {
+        return Math.max(0, Math.min(NIVELES - 1, prioridad));
+    }
+
+    private void encolar(int f) {
+        int nivel = nivelDe(tabla.getPrioridad(f));
+        colasListos[nivel].agregar(f);
+        ocupacion |= 1L << nivel;
+    }
+
+    private void drenarEntrantes() {
+        int f;
+        while ((f = entrantes.sacar()) != TablaProcesos.NINGUNA) {
+            encolar(f);
+        }
+    }
+
+    // Ejecutar exactamente 1 tick para este RoundRobin (llamado por la CPU en cada tick global).
+    // Retorna true si se hizo trabajo (se consumió 1 unidad CPU) o false si idle.
+    // Solo la CPU dueña (o un único hilo) puede llamarlo.
+    public boolean ejecutarUnTick() {
+        int tiempo = TiempoGlobal.get();
+        if (ejecutarTramo(tiempo, 1) > 0) return true;
+        if (gantt != null) gantt.registrar(tiempo, 1, HistorialGantt.OCIOSO);
+        return false;
+    }
+
+    // Ejecuta n ticks seguidos (ticks desde .. desde+n-1) con la misma semántica que
+    // n llamadas a ejecutarUnTick. Retorna cuántos de esos ticks tuvieron trabajo;
+    // los ticks ociosos quedan siempre al final del tramo.
+    public int ejecutarTicks(int desde, int n) {
+        int hechos = 0;
+        while (hechos < n) {
+            int c = ejecutarTramo(desde + hechos, n - hechos);
+            if (c == 0) break; // idle el resto del tramo
+            hechos += c;
+        }
+        if (hechos < n && gantt != null) gantt.registrar(desde + hechos, n - hechos, HistorialGantt.OCIOSO);
+        return hechos;
+    }
+
+    // Ejecuta al proceso actual hasta max ticks sin cruzar un evento (fin o quantum).
+    // Retorna los ticks consumidos (0 si no hay nada que ejecutar).
+    private int ejecutarTramo(int tiempo, int max) {
+
+        seleccionarSiguienteSiNecesario();
+
+        int f = actual;
+        if (f == TablaProcesos.NINGUNA) {
+            // idle - nada que hacer
+            return 0;
+        }
+
+        ListaEnteros cs = cambios;
+        if (cs != null) anotarCambio(cs, tabla.getId(f));
+
+        // si es la primera vez que ejecuta, fijar tiempo inicio
+        if (tabla.getInicio(f) == -1) {
+            tabla.setInicio(f, tiempo);
+        }
+
+        // ejecutar hasta el próximo evento (al menos 1 tick, igual que antes con ráfaga 0)
+        int restanteAntes = tabla.getRestante(f);
+        if (ticksEnQuantum == 0 && registro != null) {
+            registro.registrar(tiempo, cpuId, tabla.getId(f), RegistroEventos.Tipo.DESPACHO, restanteAntes);
+        }
+        int c = Math.max(1, Math.min(max, Math.min(restanteAntes, quantum - ticksEnQuantum)));
+        int restante = Math.max(0, restanteAntes - c);
+        tabla.setRestante(f, restante);
+        trabajoPendiente.addAndGet(restante - restanteAntes);
+        ticksEnQuantum += c;
+        if (gantt != null) gantt.registrar(tiempo, c, tabla.getId(f));
+
+        tabla.setEstado(f, Proceso.Estado.EJECUTANDO);
+
+        // si terminó
+        if (restante == 0) {
+            tabla.setFin(f, tiempo + c - 1);
+            tabla.setEstado(f, Proceso.Estado.TERMINADO);
+            if (registro != null) {
+                registro.registrar(tiempo + c - 1, cpuId, tabla.getId(f), RegistroEventos.Tipo.FIN,
+                        tiempo + c - 1 - tabla.getLlegada(f));
+            }
+            // notificar terminado
+            if (onFinishListener != null) {
+                onFinishListener.accept(tabla.vista(f));
+            }
+            // limpiar actual
+            actual = TablaProcesos.NINGUNA;
+            ticksEnQuantum = 0;
+            carga.decrementAndGet();
+            return c;
+        }
+
+        // si alcanzó su quantum y no terminó, reinsertar al final de su cola
+        if (ticksEnQuantum >= quantum) {
+            if (registro != null) {
+                registro.registrar(tiempo + c - 1, cpuId, tabla.getId(f), RegistroEventos.Tipo.EXPROPIACION, restante);
+            }
+            tabla.setEstado(f, Proceso.Estado.LISTO);
+            encolar(f);
+            actual = TablaProcesos.NINGUNA;
+            ticksEnQuantum = 0;
+        }
+
+        return c;
+    }
+
+    // -----------------------
+    // Motor por eventos
+    // -----------------------
+
+    // Ticks que pueden ejecutarse sin que ocurra un evento en esta CPU
+    // (fin de proceso o vencimiento de quantum). MAX_VALUE si está ociosa.
+    // Lo llama el reloj entre fases, con la CPU dueña detenida en la barrera.
+    public int ticksHastaProximoEvento() {
+        int f = actual;
+        int usados = ticksEnQuantum;
+        if (f == TablaProcesos.NINGUNA) {
+            // los entrantes se ordenan recién al drenarlos: avanzar de a 1
+            if (!entrantes.estaVacia()) return 1;
+            f = verMejor();
+            usados = 0;
+        }
+        if (f == TablaProcesos.NINGUNA) return Integer.MAX_VALUE;
+        return Math.max(1, Math.min(tabla.getRestante(f), quantum - usados));
+    }
+
+    private int verMejor() {
+        for (long bits = ocupacion; bits != 0; bits &= bits - 1) {
+            int f = colasListos[Long.numberOfTrailingZeros(bits)].verPrimero();
+            if (f != TablaProcesos.NINGUNA) return f;
+        }
+        return TablaProcesos.NINGUNA;
+    }
+
+    // true si no hay proceso actual ni procesos listos
+    public boolean estaOcioso() {
+        return actual == TablaProcesos.NINGUNA && !hayProcesosEnCola();
+    }
+
+    // true si alguna cola tiene procesos (candidatos a robo)
+    public boolean hayProcesosEnCola() {
+        return !entrantes.estaVacia() || verMejor() != TablaProcesos.NINGUNA;
+    }
+
+    public void setOnFinishListener(java.util.function.Consumer<Proceso> listener) {
+        this.onFinishListener = listener;
+    }
+
+    // -----------------------
+    // Métodos para la GUI
+    // -----------------------
+
+    // Devuelve un snapshot (copia aproximada, sin lock) de las colas listo por prioridad
+    // (solo niveles con procesos; los entrantes aún no drenados se suman a su nivel)
+    public Map<Integer, List<Proceso>> getColasSnapshot() {
+        Map<Integer, List<Proceso>> snap = new TreeMap<>();
+        ListaEnteros filas = new ListaEnteros();
+        for (long bits = ocupacion; bits != 0; bits &= bits - 1) {
+            colasListos[Long.numberOfTrailingZeros(bits)].copiar(filas);
+        }
+        entrantes.copiar(filas);
+        for (int i = 0; i < filas.tamano(); i++) {
+            int f = filas.get(i);
+            snap.computeIfAbsent(nivelDe(tabla.getPrioridad(f)), k -> new ArrayList<>()).add(tabla.vista(f));
+        }
+        return snap;
+    }
+
+    // Devuelve una vista del proceso actual (puede ser null)
+    public Proceso getProcesoActual() {
+        return tabla.vista(actual);
+    }
+
+    // Devuelve cuanto lleva ejecutado en el quantum actual (útil si quieres mostrar)
+    public int getTicksEnQuantum() {
+        return ticksEnQuantum;
+    }
+
+    // -----------------------
+    // Work-stealing helpers
+    // -----------------------
+
+    // Extrae hasta la mitad de los procesos en cola (al menos 1) para que otro CPU
+    // los robe; los agrega a 'destino' y retorna cuántos sacó (llamado desde el hilo ladrón).
+    // Política: roba de la cola de menor prioridad (número mayor) primero.
+    // No toma ningún lock: compite con el dueño solo en el CAS de cada deque.
+    public int extraerLoteParaRobo(ListaEnteros destino) {
+        long ocupados = ocupacion;
+        int enCola = 0;
+        for (long bits = ocupados; bits != 0; bits &= bits - 1) {
+            enCola += colasListos[Long.numberOfTrailingZeros(bits)].tamano();
+        }
+        int max = Math.max(1, enCola / 2);
+
+        int sacados = 0;
+        // niveles ocupados de mayor a menor número (prioridad más baja primero)
+        for (long bits = ocupados; bits != 0 && sacados < max; ) {
+            int nivel = 63 - Long.numberOfLeadingZeros(bits);
+            int f = colasListos[nivel].sacar();
+            if (f == TablaProcesos.NINGUNA) {
+                bits &= ~(1L << nivel);
+                continue;
+            }
+            destino.agregar(f);
+            trabajoPendiente.addAndGet(-tabla.getRestante(f));
+            sacados++;
+        }
+        carga.addAndGet(-sacados);
+        return sacados;
+    }
+
+    // Roba un lote de otro RR y lo toma como propio (solo el dueño de este RR).
+    // El primero pasa a ser el actual, el resto se encola por prioridad.
+    public int robarLoteDe(RoundRobin victima) {
+        int n = victima.extraerLoteParaRobo(loteRobo);
+        // la CPU roba al final de su fase: el reloj está quieto en el tick actual
+        int tick = registro != null && n > 0 ? TiempoGlobal.get() : 0;
+        for (int i = 0; i < n; i++) {
+            int f = loteRobo.get(i);
+            if (registro != null) {
+                registro.registrar(tick, cpuId, tabla.getId(f), RegistroEventos.Tipo.ROBO, victima.cpuId);
+            }
+            asignarFilaRobada(f);
+        }
+        loteRobo.limpiar();
+        return n;
+    }
+
+    // Asigna inmediatamente un proceso robado como "actual" en este RR (solo el dueño)
+    public void asignarProcesoRobado(Proceso p) {
+        asignarFilaRobada(tabla.filaDe(p));
+    }
+
+    private void asignarFilaRobada(int f) {
+        carga.incrementAndGet();
+        trabajoPendiente.addAndGet(tabla.getRestante(f));
+        // si hay actual en ejecución, encolar (no debería pasar si llamamos desde idle)
+        if (actual != TablaProcesos.NINGUNA) {
+            encolar(f);
+            return;
+        }
+        actual = f;
+        ticksEnQuantum = 0;
+        tabla.setEstado(f, Proceso.Estado.LISTO); // aparecerá como ejecutable; se fijará inicio al ejecutar
+    }
+}
@@ -0,0 +1,147 @@
+package simulador;
+
+import java.util.concurrent.Phaser;
+
+// Barrera de ticks entre el reloj global y las CPUs.
+// Cada tick tiene dos fases del Phaser:
+//   - arranque: el reloj ya avanzó TiempoGlobal y libera a todas las CPUs
+//   - cierre:   todas las CPUs terminaron su tick; recién ahí el reloj puede seguir
+// Como las llegadas quedan registradas en el Phaser, ninguna CPU pierde un tick
+// aunque todavía no esté esperando cuando el reloj lo publica.
+public class SincronizadorTicks {
+
+    // con muchas CPUs se arma un árbol de phasers para repartir la contención
+    private static final int CPUS_POR_HOJA = 16;
+
+    private final Phaser raiz;
+    private final Phaser[] faseCpu; // phaser (hoja o raíz) donde está registrada cada CPU
+
+    // ticks simulados que cubre la fase actual (1 en el motor por tick, n en el motor por eventos)
+    private volatile int ticksEnFase = 1;
+
+    // Medición de fases (escritas solo desde onAdvance, que corre en un único hilo por fase)
+    private long inicioFaseNs = System.nanoTime();
+    private volatile long ultimoTrabajoNs = 0;  // duración de la última fase de CPUs
+    private volatile long maxTrabajoNs = 0;
+    private volatile long totalTrabajoNs = 0;
+    private volatile long totalRelojNs = 0;     // tiempo entre cierre y siguiente arranque
+    private volatile long fasesMedidas = 0;
+    // ritmo: ticks simulados por segundo real en la última ventana de ~1 s completa
+    private static final long VENTANA_RITMO_NS = 1_000_000_000L;
+    private long inicioVentanaNs = inicioFaseNs;
+    private long ticksEnVentana = 0;
+    private volatile double ticksPorSegundo = 0;
+
+    public SincronizadorTicks(int numCpus) {
+        raiz = new Phaser(1) { // parte registrada: el reloj
+            @Override
+            protected boolean onAdvance(int phase, int registeredParties) {
+                long ahora = System.nanoTime();
+                long dur = ahora - inicioFaseNs;
+                inicioFaseNs = ahora;
+                if ((phase & 1) == 0) {
+                    // terminó la fase de arranque: lo medido es trabajo del reloj
+                    totalRelojNs += dur;
+                } else {
+                    ultimoTrabajoNs = dur;
+                    totalTrabajoNs += dur;
+                    if (dur > maxTrabajoNs) maxTrabajoNs = dur;
+                    fasesMedidas++;
+                    ticksEnVentana += ticksEnFase;
+                    long ventana = ahora - inicioVentanaNs;
+                    if (ventana >= VENTANA_RITMO_NS) {
+                        ticksPorSegundo = ticksEnVentana * 1e9 / ventana;
+                        ticksEnVentana = 0;
+                        inicioVentanaNs = ahora;
+                    }
+                }
+                return registeredParties == 0;
+            }
+        };
+
+        faseCpu = new Phaser[numCpus];
+        if (numCpus <= CPUS_POR_HOJA) {
+            raiz.bulkRegister(numCpus);
+            for (int i = 0; i < numCpus; i++) faseCpu[i] = raiz;
+        } else {
+            Phaser hoja = null;
+            for (int i = 0; i < numCpus; i++) {
+                if (i % CPUS_POR_HOJA == 0) hoja = new Phaser(raiz, 0);
+                hoja.register();
+                faseCpu[i] = hoja;
+            }
+        }
+    }
+
+    // ---- lado reloj ----
+
+    // Publica el tick ya avanzado y espera a que todas las CPUs lo completen.
+    // Retorna false si el sincronizador fue detenido.
+    public boolean ejecutarTick() {
+        return ejecutarTicks(1);
+    }
+
+    // Igual que ejecutarTick pero la fase cubre n ticks (TiempoGlobal ya avanzado n)
+    public boolean ejecutarTicks(int n) {
+        ticksEnFase = n;
+        if (raiz.arriveAndAwaitAdvance() < 0) return false; // arranque
+        return raiz.arriveAndAwaitAdvance() >= 0;           // cierre
+    }
+
+    // ---- lado CPU ----
+
+    // Bloquea hasta que el reloj libere el siguiente tick
+    public boolean esperarInicioTick(int cpu) throws InterruptedException {
+        return esperar(faseCpu[cpu]);
+    }
+
+    // Marca el tick como completado y espera a que el resto de CPUs también termine
+    public boolean terminarTick(int cpu) throws InterruptedException {
+        return esperar(faseCpu[cpu]);
+    }
+
+    private boolean esperar(Phaser f) throws InterruptedException {
+        int fase = f.arrive();
+        if (fase < 0) return false;
+        return f.awaitAdvanceInterruptibly(fase) >= 0;
+    }
+
+    // ticks que debe ejecutar cada CPU en la fase actual (leer tras esperarInicioTick)
+    public int getTicksEnFase() {
+        return ticksEnFase;
+    }
+
+    public void detener() {
+        raiz.forceTermination();
+    }
+
+    // ---- métricas ----
+
+    public long getUltimoTrabajoNs() {
+        return ultimoTrabajoNs;
+    }
+
+    public long getMaxTrabajoNs() {
+        return maxTrabajoNs;
+    }
+
+    public double getPromedioTrabajoNs() {
+        long n = fasesMedidas;
+        return n == 0 ? 0 : (double) totalTrabajoNs / n;
+    }
+
+    public double getPromedioRelojNs() {
+        long n = fasesMedidas;
+        return n == 0 ? 0 : (double) totalRelojNs / n;
+    }
+
+    // ticks simulados por segundo real en la última ventana de ~1 s (la calcula el
+    // cierre de fase; leerla no cambia nada)
+    public double getTicksPorSegundo() {
+        return ticksPorSegundo;
+    }
+
+    public long getFasesMedidas() {
+        return fasesMedidas;
+    }
+}
@@ -0,0 +1,185 @@
+package simulador;
+
+// Tabla de procesos en columnas de enteros (una fila por proceso, struct-of-arrays).
+// Las colas del planificador guardan solo el número de fila, así que con millones
+// de procesos no hay un objeto por proceso ni nodos de lista; la tabla tampoco
+// guarda los Proceso que le pasan: copia sus valores a la fila, y Proceso queda
+// como una vista liviana (tabla + fila) para la GUI y las APIs existentes.
+//
+// Cada columna se divide en páginas de TAM_PAGINA filas que se crean al llenarse
+// la anterior: crecer nunca copia lo ya guardado. Las filas liberadas (procesos
+// terminados) se reutilizan para los procesos nuevos.
+// Solo agregar, liberar y vista toman el monitor; cada celda la escribe un único
+// hilo a la vez (el que creó el proceso y después la CPU que lo tiene), y el pase
+// de la fila entre hilos (colas de entrada, deques de robo) publica lo escrito.
+public class TablaProcesos {
+
+    public static final int NINGUNA = -1; // fila inexistente (p. ej. CPU sin proceso actual)
+
+    private static final int BITS_PAGINA = 16;
+    private static final int TAM_PAGINA = 1 << BITS_PAGINA;
+    private static final int MASCARA = TAM_PAGINA - 1;
+    private static final int MAX_PAGINAS = 1 << (31 - BITS_PAGINA);
+
+    private static final Proceso.Estado[] ESTADOS = Proceso.Estado.values();
+
+    private final int[][] id = new int[MAX_PAGINAS][];
+    private final int[][] prioridad = new int[MAX_PAGINAS][];
+    private final int[][] llegada = new int[MAX_PAGINAS][];
+    private final int[][] inicio = new int[MAX_PAGINAS][];
+    private final int[][] fin = new int[MAX_PAGINAS][];
+    private final int[][] rafaga = new int[MAX_PAGINAS][];
+    private final int[][] restante = new int[MAX_PAGINAS][];
+    private final int[][] memoria = new int[MAX_PAGINAS][];
+    private final int[][] estado = new int[MAX_PAGINAS][];
+    // sello distinto para cada proceso que ocupa la fila (0 = libre): distingue las
+    // vistas de un proceso de las del próximo que reutilice la fila
+    private final int[][] identidad = new int[MAX_PAGINAS][];
+
+    private int filas = 0;
+    private int ultimaIdentidad = 0;
+    private final ListaEnteros libres = new ListaEnteros();
+
+    // Reserva una fila con los datos iniciales del proceso y retorna su número
+    public synchronized int agregar(int idProceso, int prio, int tLlegada, int tRafaga, int memKB) {
+        int f;
+        if (libres.tamano() > 0) {
+            f = libres.quitarUltimo();
+        } else {
+            if (filas == Integer.MAX_VALUE) throw new IllegalStateException("Tabla de procesos llena.");
+            f = filas++;
+        }
+        int pag = f >>> BITS_PAGINA;
+        if (id[pag] == null) {
+            id[pag] = new int[TAM_PAGINA];
+            prioridad[pag] = new int[TAM_PAGINA];
+            llegada[pag] = new int[TAM_PAGINA];
+            inicio[pag] = new int[TAM_PAGINA];
+            fin[pag] = new int[TAM_PAGINA];
+            rafaga[pag] = new int[TAM_PAGINA];
+            restante[pag] = new int[TAM_PAGINA];
+            memoria[pag] = new int[TAM_PAGINA];
+            estado[pag] = new int[TAM_PAGINA];
+            identidad[pag] = new int[TAM_PAGINA];
+        }
+        int i = f & MASCARA;
+        id[pag][i] = idProceso;
+        prioridad[pag][i] = prio;
+        llegada[pag][i] = tLlegada;
+        inicio[pag][i] = -1;
+        fin[pag][i] = -1;
+        rafaga[pag][i] = tRafaga;
+        restante[pag][i] = tRafaga;
+        memoria[pag][i] = memKB;
+        estado[pag][i] = Proceso.Estado.NUEVO.ordinal();
+        if (++ultimaIdentidad == 0) ultimaIdentidad = 1;
+        identidad[pag][i] = ultimaIdentidad;
+        return f;
+    }
+
+    // Reserva una fila con los valores actuales de p (estado y tiempos incluidos).
+    // p no queda vinculado: quien lo creó puede descartarlo o seguir usándolo.
+    public synchronized int agregar(Proceso p) {
+        return agregar(p, p.getId());
+    }
+
+    // Igual, pero la fila lleva idProceso en lugar del id de p
+    public synchronized int agregar(Proceso p, int idProceso) {
+        int f = agregar(idProceso, p.getPrioridad(), p.getTiempoLlegada(), p.getTiempoCPU(), p.getTamMemoriaKB());
+        setInicio(f, p.getTiempoInicio());
+        setFin(f, p.getTiempoFin());
+        setRestante(f, p.getTiempoRestante());
+        setEstado(f, p.getEstado());
+        return f;
+    }
+
+    // Fila de p: la suya si es una vista vigente de esta tabla, o una nueva con sus valores
+    public synchronized int filaDe(Proceso p) {
+        if (p.getTabla() == this && getIdentidad(p.getFila()) == p.getIdentidad()) return p.getFila();
+        return agregar(p);
+    }
+
+    // Devuelve la fila para reutilizarla. Las vistas que queden de su proceso dejan
+    // de coincidir con el sello de la fila.
+    public synchronized void liberar(int fila) {
+        identidad[fila >>> BITS_PAGINA][fila & MASCARA] = 0;
+        libres.agregar(fila);
+    }
+
+    // filas ocupadas
+    public synchronized int getFilas() {
+        return filas - libres.tamano();
+    }
+
+    // Vista de una fila (un objeto nuevo en cada llamada; equals y hashCode usan la
+    // fila y su sello, así que dos vistas del mismo proceso son iguales)
+    public synchronized Proceso vista(int fila) {
+        return fila == NINGUNA ? null : new Proceso(this, fila);
+    }
+
+    // ---- columnas ----
+
+    public int getId(int f) {
+        return id[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public int getPrioridad(int f) {
+        return prioridad[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public void setPrioridad(int f, int v) {
+        prioridad[f >>> BITS_PAGINA][f & MASCARA] = v;
+    }
+
+    public int getLlegada(int f) {
+        return llegada[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public void setLlegada(int f, int v) {
+        llegada[f >>> BITS_PAGINA][f & MASCARA] = v;
+    }
+
+    public int getInicio(int f) {
+        return inicio[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public void setInicio(int f, int v) {
+        inicio[f >>> BITS_PAGINA][f & MASCARA] = v;
+    }
+
+    public int getFin(int f) {
+        return fin[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public void setFin(int f, int v) {
+        fin[f >>> BITS_PAGINA][f & MASCARA] = v;
+    }
+
+    public int getRafaga(int f) {
+        return rafaga[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public int getRestante(int f) {
+        return restante[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public void setRestante(int f, int v) {
+        restante[f >>> BITS_PAGINA][f & MASCARA] = v;
+    }
+
+    public int getMemoria(int f) {
+        return memoria[f >>> BITS_PAGINA][f & MASCARA];
+    }
+
+    public Proceso.Estado getEstado(int f) {
+        return ESTADOS[estado[f >>> BITS_PAGINA][f & MASCARA]];
+    }
+
+    public void setEstado(int f, Proceso.Estado e) {
+        estado[f >>> BITS_PAGINA][f & MASCARA] = e.ordinal();
+    }
+
+    public int getIdentidad(int f) {
+        return identidad[f >>> BITS_PAGINA][f & MASCARA];
+    }
+}
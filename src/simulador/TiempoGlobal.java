@@ -1,8 +1,11 @@
+package simulador;
+
 public class TiempoGlobal {
-    private static int tiempo = 0;
+    // se escribe bajo el lock de la clase; volatile para leer sin tomarlo
+    private static volatile int tiempo = 0;
 
     // Devuelve el tiempo actual (sin incrementar)
-    public static synchronized int get() {
+    public static int get() {
         return tiempo;
     }
 
@@ -12,6 +15,12 @@ public class TiempoGlobal {
         return tiempo;
     }
 
+    // Avanza n ticks de una vez (motor por eventos) y devuelve el nuevo tiempo
+    public static synchronized int avanzar(int n) {
+        tiempo += n;
+        return tiempo;
+    }
+
     // Reiniciar (útil para pruebas)
     public static synchronized void reset() {
         tiempo = 0;
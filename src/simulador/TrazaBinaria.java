@@ -0,0 +1,87 @@
+package simulador;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Traza de carga en formato binario compacto (ver EscritorTrazaBinaria):
+//   cabecera: MAGIA (4 bytes) + VERSION (1 byte)
+//   registro: deltaLlegada, prioridad, tiempoCPU, memKB como varints
+// La llegada se guarda como diferencia con la anterior, así que un registro
+// típico ocupa 4-7 bytes. Cada registro se valida igual que en EscritorTrazaBinaria
+// (y que en TrazaCSV). Los ids se asignan en orden de lectura a partir de 1.
+public class TrazaBinaria implements FuenteCarga {
+
+    public static final int MAGIA = 0x52525452; // "RRTR"
+    public static final int VERSION = 1;
+
+    private final InputStream entrada;
+    private int llegada = 0;
+    private int siguienteId = 1;
+    private long registro = 0;
+
+    public TrazaBinaria(String ruta) throws IOException {
+        this(new FileInputStream(ruta));
+    }
+
+    public TrazaBinaria(InputStream origen) throws IOException {
+        this.entrada = new BufferedInputStream(origen, 1 << 16);
+        int magia = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = entrada.read();
+            if (b < 0) throw new EOFException("Traza binaria vacía");
+            magia = (magia << 8) | b;
+        }
+        if (magia != MAGIA) throw new IOException("No es una traza binaria (magia inválida)");
+        int version = entrada.read();
+        if (version != VERSION) throw new IOException("Versión de traza no soportada: " + version);
+    }
+
+    @Override
+    public Proceso siguiente() throws IOException {
+        int b = entrada.read();
+        if (b < 0) return null;
+
+        registro++;
+        // el delta es un entero sin signo: sumado como long no puede dar la vuelta
+        long nueva = llegada + (leerVarint(b) & 0xFFFFFFFFL);
+        if (nueva > Integer.MAX_VALUE) throw new IOException("Llegada fuera de rango en registro " + registro);
+        int prioridad = EscritorTrazaBinaria.desdeZigzag(leerVarint(leerByte()));
+        int tiempoCPU = leerVarint(leerByte());
+        int memKB = leerVarint(leerByte());
+        String error = EscritorTrazaBinaria.validar((int) nueva, llegada, tiempoCPU, memKB);
+        if (error != null) throw new IOException(error + " en registro " + registro);
+        llegada = (int) nueva;
+        return new Proceso(siguienteId++, prioridad, llegada, tiempoCPU, memKB);
+    }
+
+    private int leerByte() throws IOException {
+        int b = entrada.read();
+        if (b < 0) throw new EOFException("Registro incompleto al final de la traza");
+        return b;
+    }
+
+    // LEB128 sin signo de hasta 32 bits; 'b' es el primer byte ya leído
+    private int leerVarint(int b) throws IOException {
+        int valor = b & 0x7F;
+        int desplazamiento = 7;
+        while ((b & 0x80) != 0) {
+            if (desplazamiento > 28) throw new IOException("Varint demasiado largo en registro " + registro);
+            b = leerByte();
+            // el quinto byte solo aporta los 4 bits altos del int
+            if (desplazamiento == 28 && (b & 0x70) != 0) {
+                throw new IOException("Varint de más de 32 bits en registro " + registro);
+            }
+            valor |= (b & 0x7F) << desplazamiento;
+            desplazamiento += 7;
+        }
+        return valor;
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+}
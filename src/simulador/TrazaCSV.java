@@ -0,0 +1,95 @@
+package simulador;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+// Traza de carga en texto, un proceso por línea:
+//   llegada,prioridad,tiempoCPU,memKB
+// Los campos se separan con coma o con espacios/tabs (también vale espacio alrededor
+// de la coma); una fila con más o menos de 4 campos es un error. Se ignoran líneas
+// vacías, comentarios (#) y una cabecera no numérica. Cada fila se valida igual que
+// en EscritorTrazaBinaria. Los ids se asignan en orden de lectura a partir de 1.
+public class TrazaCSV implements FuenteCarga {
+
+    private final BufferedReader lector;
+    private final int[] campos = new int[4];
+    private long linea = 0;
+    private int siguienteId = 1;
+    private int ultimaLlegada = 0;
+
+    public TrazaCSV(String ruta) throws IOException {
+        this(new FileReader(ruta, StandardCharsets.UTF_8));
+    }
+
+    public TrazaCSV(Reader origen) {
+        this.lector = new BufferedReader(origen, 1 << 16);
+    }
+
+    @Override
+    public Proceso siguiente() throws IOException {
+        String s;
+        while ((s = lector.readLine()) != null) {
+            linea++;
+            if (s.isBlank() || s.charAt(0) == '#') continue;
+            if (linea == 1 && esCabecera(s)) continue;
+
+            parsear(s);
+            int llegada = campos[0];
+            String error = EscritorTrazaBinaria.validar(llegada, ultimaLlegada, campos[2], campos[3]);
+            if (error != null) throw new IOException(error + " en línea " + linea + ": " + s);
+            ultimaLlegada = llegada;
+            return new Proceso(siguienteId++, campos[1], llegada, campos[2], campos[3]);
+        }
+        return null;
+    }
+
+    private static boolean esCabecera(String s) {
+        char c = s.trim().charAt(0);
+        return (c < '0' || c > '9') && c != '-';
+    }
+
+    // Separa los 4 enteros sin split ni regex: se llama una vez por fila
+    private void parsear(String s) throws IOException {
+        int n = 0;
+        int largo = s.length();
+        int i = saltarEspacios(s, 0);
+        while (n < campos.length) {
+            boolean negativo = i < largo && s.charAt(i) == '-';
+            if (negativo) i++;
+            int inicio = i;
+            int valor = 0;
+            try {
+                // solo dígitos ASCII: Character.isDigit acepta los de otros alfabetos
+                while (i < largo && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                    valor = Math.addExact(Math.multiplyExact(valor, 10), s.charAt(i) - '0');
+                    i++;
+                }
+            } catch (ArithmeticException e) {
+                throw new IOException("Número fuera de rango en línea " + linea + ": " + s);
+            }
+            if (i == inicio) throw new IOException("Número inválido en línea " + linea + ": " + s);
+            campos[n++] = negativo ? -valor : valor;
+            int finNumero = i;
+            i = saltarEspacios(s, i);
+            if (i < largo && s.charAt(i) == ',' && n < campos.length) {
+                i = saltarEspacios(s, i + 1);
+            } else if (n < campos.length && (i >= largo || i == finNumero)) {
+                throw new IOException("Se esperaban 4 campos en línea " + linea + ": " + s);
+            }
+        }
+        if (i < largo) throw new IOException("Sobran campos en línea " + linea + ": " + s);
+    }
+
+    private static int saltarEspacios(String s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        return i;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lector.close();
+    }
+}
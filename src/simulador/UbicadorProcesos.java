@@ -0,0 +1,102 @@
+package simulador;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Elige en qué CPU se encola un proceso nuevo o reactivado.
+// Todas las políticas leen contadores O(1) de cada CPU (sin locks); solo
+// MENOR_CARGA y MENOR_TRABAJO recorren todas las CPUs.
+public class UbicadorProcesos {
+
+    public enum Politica {
+        MENOR_CARGA,    // recorre todas y toma la de menos procesos (comportamiento original)
+        DOS_OPCIONES,   // sondea dos al azar y toma la de menos procesos
+        ROUND_ROBIN,    // turnos fijos
+        MENOR_TRABAJO   // recorre todas y toma la de menor suma de tiempoRestante
+    }
+
+    private volatile Politica politica = Politica.MENOR_CARGA;
+    private final AtomicInteger turno = new AtomicInteger();
+
+    // Estadísticas
+    private final LongAdder ubicaciones = new LongAdder();
+    private final LongAdder nanosUbicacion = new LongAdder();
+
+    public Procesador elegir(List<Procesador> cpus) {
+        long t0 = System.nanoTime();
+        Procesador elegida;
+        switch (politica) {
+            case DOS_OPCIONES:
+                elegida = dosOpciones(cpus);
+                break;
+            case ROUND_ROBIN:
+                elegida = cpus.get(Math.floorMod(turno.getAndIncrement(), cpus.size()));
+                break;
+            case MENOR_TRABAJO:
+                elegida = menorTrabajo(cpus);
+                break;
+            default:
+                elegida = menorCarga(cpus);
+        }
+        nanosUbicacion.add(System.nanoTime() - t0);
+        ubicaciones.increment();
+        return elegida;
+    }
+
+    private static Procesador menorCarga(List<Procesador> cpus) {
+        Procesador mejor = cpus.get(0);
+        int min = mejor.getCarga();
+        for (Procesador cpu : cpus) {
+            int c = cpu.getCarga();
+            if (c < min) {
+                min = c;
+                mejor = cpu;
+            }
+        }
+        return mejor;
+    }
+
+    private static Procesador dosOpciones(List<Procesador> cpus) {
+        int n = cpus.size();
+        if (n == 1) return cpus.get(0);
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int i = rnd.nextInt(n);
+        int j = rnd.nextInt(n - 1);
+        if (j >= i) j++; // dos CPUs distintas
+        Procesador a = cpus.get(i);
+        Procesador b = cpus.get(j);
+        return b.getCarga() < a.getCarga() ? b : a;
+    }
+
+    private static Procesador menorTrabajo(List<Procesador> cpus) {
+        Procesador mejor = cpus.get(0);
+        long min = mejor.getTrabajoPendiente();
+        for (Procesador cpu : cpus) {
+            long t = cpu.getTrabajoPendiente();
+            if (t < min) {
+                min = t;
+                mejor = cpu;
+            }
+        }
+        return mejor;
+    }
+
+    public void setPolitica(Politica politica) {
+        this.politica = politica;
+    }
+
+    public Politica getPolitica() {
+        return politica;
+    }
+
+    public long getUbicaciones() {
+        return ubicaciones.sum();
+    }
+
+    public double getPromedioUbicacionNs() {
+        long n = ubicaciones.sum();
+        return n == 0 ? 0 : (double) nanosUbicacion.sum() / n;
+    }
+}
@@ -0,0 +1,94 @@
+package simulador;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsignadorBuddyTest {
+
+    private static Proceso proceso(int id) {
+        return new Proceso(id, 1, 0, 1);
+    }
+
+    @Test
+    void divideHastaElOrdenPedido() {
+        AsignadorBuddy a = new AsignadorBuddy(1024);
+        AdministradorMemoria.Bloque b = a.asignar(proceso(1), 100);
+
+        assertEquals(0, b.inicio);
+        assertEquals(128, b.tamano);
+        // quedan libres las mitades altas: 128, 256 y 512
+        assertEquals(896, a.getLibreKB());
+        assertEquals(3, a.getCantidadBloquesLibres());
+        assertEquals(512, a.getMayorBloqueLibre());
+    }
+
+    @Test
+    void fusionaConSuCompanero() {
+        AsignadorBuddy a = new AsignadorBuddy(1024);
+        AdministradorMemoria.Bloque b1 = a.asignar(proceso(1), 64);
+        AdministradorMemoria.Bloque b2 = a.asignar(proceso(2), 64);
+        assertEquals(b1.inicio ^ 64, b2.inicio);
+
+        a.liberar(b1);
+        // b1 no se puede fusionar mientras su compañero está ocupado
+        assertEquals(1024 - 64, a.getLibreKB());
+        assertEquals(4, a.getCantidadBloquesLibres());
+        a.liberar(b2);
+        assertEquals(1024, a.getLibreKB());
+        assertEquals(1, a.getCantidadBloquesLibres());
+        assertEquals(1024, a.getMayorBloqueLibre());
+    }
+
+    @Test
+    void sinHuecoSuficienteDevuelveNull() {
+        AsignadorBuddy a = new AsignadorBuddy(1024);
+        assertNull(a.asignar(proceso(1), 1025));
+        assertNotNull(a.asignar(proceso(2), 512));
+        assertNull(a.asignar(proceso(3), 513));
+    }
+
+    @Test
+    void ramQueNoEsPotenciaDeDos() {
+        // 768 = 512 + 256: dos raíces que nunca se fusionan entre sí
+        AsignadorBuddy a = new AsignadorBuddy(768);
+        assertEquals(2, a.getCantidadBloquesLibres());
+        AdministradorMemoria.Bloque b = a.asignar(proceso(1), 300);
+        assertEquals(512, b.tamano);
+        assertNull(a.asignar(proceso(2), 300));
+        a.liberar(b);
+        assertEquals(768, a.getLibreKB());
+        assertEquals(2, a.getCantidadBloquesLibres());
+    }
+
+    @Test
+    void asignacionesAlAzarVuelvenAlEstadoInicial() {
+        AsignadorBuddy a = new AsignadorBuddy(4096);
+        Random rnd = new Random(5);
+        List<AdministradorMemoria.Bloque> ocupados = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            if (ocupados.isEmpty() || rnd.nextBoolean()) {
+                AdministradorMemoria.Bloque b = a.asignar(proceso(i), 1 + rnd.nextInt(300));
+                if (b != null) {
+                    assertEquals(0, b.inicio % b.tamano, "bloque alineado a su tamaño");
+                    ocupados.add(b);
+                }
+            } else {
+                a.liberar(ocupados.remove(rnd.nextInt(ocupados.size())));
+            }
+            int ocupado = 0;
+            for (AdministradorMemoria.Bloque b : ocupados) ocupado += b.tamano;
+            assertEquals(4096, ocupado + a.getLibreKB());
+        }
+        for (AdministradorMemoria.Bloque b : ocupados) a.liberar(b);
+        assertEquals(1, a.getCantidadBloquesLibres());
+        assertTrue(a.getBloques().get(0).estaLibre());
+    }
+}
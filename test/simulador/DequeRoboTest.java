@@ -0,0 +1,62 @@
+package simulador;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Timeout(60)
+class DequeRoboTest {
+
+    @Test
+    void ordenFifoDelDueno() {
+        DequeRobo d = new DequeRobo();
+        for (int i = 0; i < 100; i++) d.agregar(i); // obliga a crecer varias veces
+        assertEquals(100, d.tamano());
+        for (int i = 0; i < 100; i++) assertEquals(i, d.sacar());
+        assertEquals(TablaProcesos.NINGUNA, d.sacar());
+    }
+
+    // El dueño agrega y saca mientras varios ladrones roban: cada elemento sale una sola vez
+    @Test
+    void robosConcurrentesNoPierdenNiDuplican() throws Exception {
+        int total = 1_000_000;
+        int ladrones = 4;
+        DequeRobo d = new DequeRobo();
+        AtomicIntegerArray vistos = new AtomicIntegerArray(total);
+        AtomicBoolean fin = new AtomicBoolean(false);
+        CountDownLatch listos = new CountDownLatch(ladrones);
+
+        Thread[] hilos = new Thread[ladrones];
+        for (int k = 0; k < ladrones; k++) {
+            hilos[k] = new Thread(() -> {
+                listos.countDown();
+                while (true) {
+                    int f = d.sacar();
+                    if (f != TablaProcesos.NINGUNA) vistos.incrementAndGet(f);
+                    else if (fin.get() && d.estaVacio()) return;
+                }
+            });
+            hilos[k].start();
+        }
+        listos.await();
+
+        for (int i = 0; i < total; i++) {
+            d.agregar(i);
+            if (i % 3 == 0) {
+                int f = d.sacar();
+                if (f != TablaProcesos.NINGUNA) vistos.incrementAndGet(f);
+            }
+        }
+        fin.set(true);
+        for (Thread h : hilos) h.join();
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, vistos.get(i), "elemento " + i);
+        }
+    }
+}
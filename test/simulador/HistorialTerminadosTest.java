@@ -0,0 +1,82 @@
+package simulador;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Timeout(60)
+class HistorialTerminadosTest {
+
+    private static Proceso terminado(int id) {
+        Proceso p = new Proceso(id, id % 5, id, 1 + id % 7, 64 * (id % 4));
+        p.setTiempoInicio(id + 1);
+        p.setTiempoFin(id + 10);
+        return p;
+    }
+
+    private static void verificar(Proceso p, int id) {
+        assertEquals(id, p.getId());
+        assertEquals(id % 5, p.getPrioridad());
+        assertEquals(id, p.getTiempoLlegada());
+        assertEquals(id + 1, p.getTiempoInicio());
+        assertEquals(id + 10, p.getTiempoFin());
+        assertEquals(1 + id % 7, p.getTiempoCPU());
+        assertEquals(64 * (id % 4), p.getTamMemoriaKB());
+    }
+
+    // Varios lotes bajan a disco y getTodos los vuelve a leer en orden de terminación
+    @Test
+    void loQueBajaADiscoSeLeeCompleto() {
+        EscritorHistorial escritor = new EscritorHistorial();
+        HistorialTerminados h = new HistorialTerminados(0, 100, escritor);
+        int total = HistorialTerminados.LOTE * 5 + 321;
+        for (int i = 1; i <= total; i++) h.agregar(terminado(i));
+
+        assertEquals(total, h.getCantidadTotal());
+        List<Proceso> todos = h.getTodos();
+        assertEquals(total, todos.size());
+        for (int i = 0; i < total; i++) verificar(todos.get(i), i + 1);
+
+        List<Proceso> recientes = h.getRecientes();
+        assertEquals(100, recientes.size());
+        for (int i = 0; i < 100; i++) verificar(recientes.get(i), total - 99 + i);
+
+        escritor.cerrar();
+        // después de cerrar el escritor se sigue pudiendo agregar y leer
+        h.agregar(terminado(total + 1));
+        for (int i = 2; i <= HistorialTerminados.LOTE + 1; i++) h.agregar(terminado(total + i));
+        todos = h.getTodos();
+        assertEquals(total + HistorialTerminados.LOTE + 1, todos.size());
+        for (int i = 0; i < todos.size(); i++) verificar(todos.get(i), i + 1);
+        assertEquals(0, h.getRegistrosPerdidos());
+    }
+
+    @Test
+    void sinDesbordarNoTocaElDisco() {
+        // cuenta los lotes que le llegan al escritor: no debería llegar ninguno
+        AtomicInteger lotes = new AtomicInteger();
+        EscritorHistorial escritor = new EscritorHistorial() {
+            @Override
+            public void encolar(HistorialTerminados historial, int[] datos, int registros) {
+                lotes.incrementAndGet();
+                super.encolar(historial, datos, registros);
+            }
+        };
+        try {
+            HistorialTerminados h = new HistorialTerminados(1, 50, escritor);
+            for (int i = 1; i <= 30; i++) h.agregar(terminado(i));
+            List<Proceso> todos = h.getTodos();
+            assertEquals(30, todos.size());
+            for (int i = 0; i < 30; i++) verificar(todos.get(i), i + 1);
+            assertEquals(5, h.getRecientes(5).size());
+            verificar(h.getRecientes(5).get(0), 26);
+            assertEquals(0, lotes.get());
+        } finally {
+            escritor.cerrar();
+        }
+    }
+}
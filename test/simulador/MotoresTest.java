@@ -0,0 +1,60 @@
+package simulador;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// El motor por eventos tiene que dar exactamente los mismos tiempos que el tick a
+// tick. Con una sola CPU no hay robos (únicos sorteos del planificador), así que la
+// corrida es determinista y se puede comparar proceso por proceso.
+@Timeout(120)
+class MotoresTest {
+
+    @Test
+    void mismosTiemposConCargaSintetica() throws Exception {
+        for (int quantum : new int[] {1, 3, 8}) {
+            assertEquals(correr(PlanificadorMultiprocesador.Motor.POR_TICK, quantum, 4096),
+                    correr(PlanificadorMultiprocesador.Motor.EVENTOS, quantum, 4096), "quantum " + quantum);
+        }
+    }
+
+    @Test
+    void mismosTiemposConSuspensiones() throws Exception {
+        // 2 MB para procesos de hasta 1 MB: la memoria se llena y hay suspensiones
+        List<String> porTick = correr(PlanificadorMultiprocesador.Motor.POR_TICK, 4, 2048);
+        assertEquals(porTick, correr(PlanificadorMultiprocesador.Motor.EVENTOS, 4, 2048));
+        assertNotEquals("suspensiones 0", porTick.get(porTick.size() - 1));
+    }
+
+    // "id llegada inicio fin" de cada proceso, ordenados por id, y al final las suspensiones
+    private static List<String> correr(PlanificadorMultiprocesador.Motor motor, int quantum, int ramKB) throws Exception {
+        int cantidad = 3000;
+        TiempoGlobal.reset();
+        PlanificadorMultiprocesador plan = new PlanificadorMultiprocesador(1, quantum, ramKB);
+        plan.setFactorTiempoReal(PlanificadorMultiprocesador.SIN_PAUSA);
+        plan.setMotor(motor);
+        GeneradorCarga gen = new GeneradorCarga(11, cantidad);
+        gen.setLlegadasRafagas(2.0, 0.05, 40, 120);
+        gen.setRafagaMaxima(200);
+        plan.setFuenteCarga(gen);
+        plan.iniciar();
+        while (plan.hayLlegadasPendientes() || plan.getCantidadTerminados() < cantidad) Thread.sleep(5);
+        plan.detener();
+
+        List<Proceso> terminados = new ArrayList<>(plan.getTodosTerminados());
+        terminados.sort(Comparator.comparingInt(Proceso::getId));
+        assertEquals(cantidad, terminados.size());
+        List<String> r = new ArrayList<>(cantidad);
+        for (Proceso p : terminados) {
+            r.add(p.getId() + " " + p.getTiempoLlegada() + " " + p.getTiempoInicio() + " " + p.getTiempoFin());
+        }
+        r.add("suspensiones " + plan.getSuspensiones());
+        return r;
+    }
+}
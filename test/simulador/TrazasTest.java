@@ -0,0 +1,139 @@
+package simulador;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrazasTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void csvYBinariaDanLosMismosProcesos() throws IOException {
+        Path csv = dir.resolve("t.csv");
+        Path bin = dir.resolve("t.rtr");
+        Random rnd = new Random(3);
+        List<int[]> filas = new ArrayList<>();
+        int llegada = 0;
+        for (int i = 0; i < 5000; i++) {
+            llegada += rnd.nextInt(4) == 0 ? rnd.nextInt(1000) : 0;
+            // prioridades negativas para ejercitar el zigzag del formato binario
+            filas.add(new int[] {llegada, rnd.nextInt(11) - 5, 1 + rnd.nextInt(100_000), rnd.nextInt(1 << 20)});
+        }
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8));
+             EscritorTrazaBinaria b = new EscritorTrazaBinaria(bin.toString())) {
+            w.println("llegada,prioridad,tiempoCPU,memKB");
+            w.println("# comentario");
+            for (int[] f : filas) {
+                w.println(f[0] + "," + f[1] + "," + f[2] + "," + f[3]);
+                b.escribir(f[0], f[1], f[2], f[3]);
+            }
+        }
+
+        try (FuenteCarga c = FuenteCarga.abrir(csv.toString()); FuenteCarga b = FuenteCarga.abrir(bin.toString())) {
+            for (int i = 0; i < filas.size(); i++) {
+                int[] f = filas.get(i);
+                Proceso pc = c.siguiente();
+                Proceso pb = b.siguiente();
+                for (Proceso p : new Proceso[] {pc, pb}) {
+                    assertEquals(i + 1, p.getId());
+                    assertEquals(f[0], p.getTiempoLlegada());
+                    assertEquals(f[1], p.getPrioridad());
+                    assertEquals(f[2], p.getTiempoCPU());
+                    assertEquals(f[3], p.getTamMemoriaKB());
+                }
+            }
+            assertNull(c.siguiente());
+            assertNull(b.siguiente());
+        }
+    }
+
+    @Test
+    void csvAceptaEspaciosYTabs() throws IOException {
+        try (TrazaCSV t = new TrazaCSV(new StringReader("1\t2\t3\t4\n 2 , 3 ,4, 5\n3 1 2 3\n"))) {
+            assertEquals(1, t.siguiente().getTiempoLlegada());
+            assertEquals(3, t.siguiente().getPrioridad());
+            assertEquals(3, t.siguiente().getTamMemoriaKB());
+            assertNull(t.siguiente());
+        }
+    }
+
+    @Test
+    void csvRechazaFilasInvalidas() {
+        for (String fila : new String[] {"1,2,3,4,5", "1,2,3", "1,2x,3,4", "-1,2,3,4", "1,2,-3,4", "5,1,1,1\n4,1,1,1",
+                "2147483648,1,1,1", "1,99999999999,1,1", "1,1,1,1\n\u0661,2,3,4"}) {
+            assertThrows(IOException.class, () -> {
+                try (TrazaCSV t = new TrazaCSV(new StringReader(fila))) {
+                    while (t.siguiente() != null) {
+                        // leer hasta el error
+                    }
+                }
+            }, fila);
+        }
+    }
+
+    @Test
+    void binariaRechazaLoMismoQueCsv() throws IOException {
+        try (EscritorTrazaBinaria b = new EscritorTrazaBinaria(dir.resolve("x.rtr").toString())) {
+            assertThrows(IOException.class, () -> b.escribir(-1, 1, 1, 1));
+            b.escribir(5, 1, 1, 1);
+            assertThrows(IOException.class, () -> b.escribir(4, 1, 1, 1));
+            assertThrows(IOException.class, () -> b.escribir(6, 1, -1, 1));
+        }
+    }
+
+    // cabecera válida seguida de los bytes crudos de los registros
+    private static TrazaBinaria binaria(int... bytes) throws IOException {
+        byte[] b = new byte[5 + bytes.length];
+        b[0] = (byte) (TrazaBinaria.MAGIA >>> 24);
+        b[1] = (byte) (TrazaBinaria.MAGIA >>> 16);
+        b[2] = (byte) (TrazaBinaria.MAGIA >>> 8);
+        b[3] = (byte) TrazaBinaria.MAGIA;
+        b[4] = (byte) TrazaBinaria.VERSION;
+        for (int i = 0; i < bytes.length; i++) b[5 + i] = (byte) bytes[i];
+        return new TrazaBinaria(new ByteArrayInputStream(b));
+    }
+
+    @Test
+    void binariaRechazaRegistrosInvalidosAlLeer() throws IOException {
+        int[][] trazas = {
+            {0, 0, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 1},             // tiempoCPU = -1
+            {0, 0, 1, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F},             // memKB = -1
+            {0, 0, 0x80, 0x80, 0x80, 0x80, 0x10, 1},             // varint de más de 32 bits
+            {0x80, 0x80, 0x80, 0x80, 0x80, 0x01, 0, 1, 1},       // varint de 6 bytes
+            {0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0, 1, 1, 1, 0, 1, 1}, // la llegada pasa de Integer.MAX_VALUE
+            {0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 0, 1, 1},             // delta "negativo"
+            {0, 0, 1},                                           // registro incompleto
+        };
+        for (int[] bytes : trazas) {
+            assertThrows(IOException.class, () -> {
+                try (TrazaBinaria t = binaria(bytes)) {
+                    while (t.siguiente() != null) {
+                        // leer hasta el error
+                    }
+                }
+            });
+        }
+
+        // el mayor valor que entra en 32 bits sí se lee
+        try (TrazaBinaria t = binaria(0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0, 1, 1)) {
+            assertEquals(Integer.MAX_VALUE, t.siguiente().getTiempoLlegada());
+            assertNull(t.siguiente());
+        }
+    }
+}